@@ -0,0 +1,379 @@
+package com.github.dahaka934.jhocon.processor;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import java.util.List;
+
+/**
+ * Source of generated type adapter factory for one class.<br/>
+ * Field {@code i} is read by {@code readI} adapter and written by {@code writeI} adapter,
+ * its handlers are inlined to {@code commentsI} and {@code validateI} methods.
+ */
+final class AdapterSource {
+    private final Elements elements;
+    private final String pkg;
+    private final String name;
+    private final String type;
+    private final List<FieldModel> fields;
+    private final StringBuilder out = new StringBuilder();
+    private int indent = 0;
+
+    AdapterSource(Elements elements, String pkg, String name, TypeElement type, List<FieldModel> fields) {
+        this.elements = elements;
+        this.pkg = pkg;
+        this.name = name;
+        this.type = type.getQualifiedName().toString();
+        this.fields = fields;
+    }
+
+    String generate() {
+        if (!pkg.isEmpty()) {
+            line("package %s;", pkg);
+            line("");
+        }
+        line("import com.github.dahaka934.jhocon.JHGeneratedTypeAdapterFactory;");
+        line("import com.github.dahaka934.jhocon.JHoconHelper;");
+        line("import com.github.dahaka934.jhocon.fieldlhandler.CommentTemplate;");
+        line("import com.github.dahaka934.jhocon.fieldlhandler.FieldHandler;");
+        line("import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorList;");
+        line("import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorRange;");
+        line("import com.google.gson.Gson;");
+        line("import com.google.gson.JsonSyntaxException;");
+        line("import com.google.gson.TypeAdapter;");
+        line("import com.google.gson.reflect.TypeToken;");
+        line("import com.google.gson.stream.JsonReader;");
+        line("import com.google.gson.stream.JsonToken;");
+        line("import com.google.gson.stream.JsonWriter;");
+        line("");
+        line("import java.io.IOException;");
+        line("import java.lang.reflect.Field;");
+        line("import java.lang.reflect.Type;");
+        line("import java.util.Arrays;");
+        line("import java.util.Collections;");
+        line("import java.util.HashSet;");
+        line("import java.util.Set;");
+        line("");
+        line("/**");
+        line(" * Type adapter factory for {@link %s}, generated by jhocon-processor.", type);
+        line(" */");
+        line("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        open("public final class %s extends JHGeneratedTypeAdapterFactory {", name);
+        for (int i = 0; i < fields.size(); ++i) {
+            FieldModel field = fields.get(i);
+            line("private static final Type TYPE_%d = %s;", i, typeLiteral(field.type));
+            if (field.values != null) {
+                line("private static final String[] VALUES_%d = {%s};", i, strings(field.values));
+                line("private static final Set<String> VALUES_SET_%d = "
+                    + "Collections.unmodifiableSet(new HashSet<>(Arrays.asList(VALUES_%d)));", i, i);
+            }
+        }
+        line("");
+        open("public %s() {", name);
+        line("super(%s.class);", type);
+        close("}");
+        line("");
+        line("@Override");
+        open("public TypeAdapter<?> create(Gson gson, Handlers handlers) {");
+        line("return new Adapter(gson, handlers);");
+        close("}");
+        line("");
+        generateAdapter();
+        close("}");
+        return out.toString();
+    }
+
+    private void generateAdapter() {
+        open("private static final class Adapter extends TypeAdapter<%s> {", type);
+        line("private final Handlers handlers;");
+        for (int i = 0; i < fields.size(); ++i) {
+            FieldModel field = fields.get(i);
+            line("private final TypeAdapter<%s> read%d;", field.boxed, i);
+            line("private final TypeAdapter<%s> write%d;", field.boxed, i);
+            if (field.comment != null) {
+                line("private final CommentTemplate comment%d;", i);
+            }
+            if (hasRangeComment(field)) {
+                line("private final String rangeComment%d;", i);
+            }
+            if (hasListComment(field)) {
+                line("private final String listComment%d;", i);
+            }
+            if (field.custom) {
+                line("private final Field field%d;", i);
+                line("private final FieldHandler validator%d;", i);
+            }
+        }
+        line("");
+
+        open("Adapter(Gson gson, Handlers handlers) {");
+        line("this.handlers = handlers;");
+        for (int i = 0; i < fields.size(); ++i) {
+            FieldModel field = fields.get(i);
+            line("read%d = (TypeAdapter<%s>) gson.getAdapter(TypeToken.get(TYPE_%d));", i, field.boxed, i);
+            if (field.exactType) {
+                line("write%d = read%d;", i, i);
+            } else {
+                line("write%d = writeAdapter(gson, read%d, TYPE_%d);", i, i, i);
+            }
+            if (field.comment != null) {
+                line("comment%d = new CommentTemplate(%s);", i, string(field.comment));
+            }
+            if (hasRangeComment(field)) {
+                if (field.intMin != null) {
+                    line("rangeComment%d = FieldValidatorRange.comment(%d, %d);", i, field.intMin, field.intMax);
+                } else {
+                    line("rangeComment%d = FieldValidatorRange.comment(%s, %s);",
+                        i, doubleLiteral(field.doubleMin), doubleLiteral(field.doubleMax));
+                }
+            }
+            if (hasListComment(field)) {
+                line("listComment%d = FieldValidatorList.comment(VALUES_%d, %b);", i, i, field.invert);
+            }
+            if (field.custom) {
+                line("field%d = handlers.field(%s.class, %s);", i, field.owner.getQualifiedName(),
+                    string(field.name));
+                line("validator%d = handlers.bindValidator(field%d);", i, i);
+            }
+        }
+        close("}");
+        line("");
+
+        generateWrite();
+        line("");
+        generateRead();
+        for (int i = 0; i < fields.size(); ++i) {
+            FieldModel field = fields.get(i);
+            if (field.isCommented()) {
+                line("");
+                generateComments(i, field);
+            }
+            if (field.isValidated()) {
+                line("");
+                generateValidate(i, field);
+            }
+        }
+        close("}");
+    }
+
+    private void generateWrite() {
+        line("@Override");
+        open("public void write(JsonWriter out, %s value) throws IOException {", type);
+        open("if (value == null) {");
+        line("out.nullValue();");
+        line("return;");
+        close("}");
+        line("");
+        line("out.beginObject();");
+        for (int i = 0; i < fields.size(); ++i) {
+            FieldModel field = fields.get(i);
+            if (!field.primitive) {
+                // avoid recursion for example for Throwable.cause, fields of other types need cast to compare
+                String cast = field.type.toString().equals("java.lang.Object") ? "" : "(Object) ";
+                open("if (%svalue.%s != value) {", cast, field.name);
+            }
+            line("out.name(%s);", string(field.names.get(0)));
+            if (field.isCommented()) {
+                open("if (handlers.isWithComments(out)) {");
+                line("comments%d(out, value.%s);", i, field.name);
+                close("}");
+            }
+            line("write%d.write(out, value.%s);", i, field.name);
+            if (!field.primitive) {
+                close("}");
+            }
+        }
+        line("out.endObject();");
+        close("}");
+    }
+
+    private void generateRead() {
+        line("@Override");
+        open("public %s read(JsonReader in) throws IOException {", type);
+        open("if (in.peek() == JsonToken.NULL) {");
+        line("in.nextNull();");
+        line("return null;");
+        close("}");
+        line("");
+        line("%s instance = new %s();", type, type);
+        open("try {");
+        line("in.beginObject();");
+        open("while (in.hasNext()) {");
+        open("switch (in.nextName()) {");
+        for (int i = 0; i < fields.size(); ++i) {
+            FieldModel field = fields.get(i);
+            for (int j = 0; j < field.names.size() - 1; ++j) {
+                line("case %s:", string(field.names.get(j)));
+            }
+            open("case %s: {", string(field.names.get(field.names.size() - 1)));
+            line("%s it = read%d.read(in);", field.boxed, i);
+            if (field.isValidated()) {
+                open("if (it != null && handlers.isValidating(in)) {");
+                line("it = validate%d(in, it);", i);
+                close("}");
+            }
+            if (field.primitive) {
+                open("if (it != null) {");
+                line("instance.%s = it;", field.name);
+                close("}");
+            } else {
+                line("instance.%s = it;", field.name);
+            }
+            line("break;");
+            close("}");
+        }
+        line("default:");
+        indent++;
+        line("in.skipValue();");
+        indent--;
+        close("}");
+        close("}");
+        indent--;
+        open("} catch (IllegalStateException e) {");
+        line("throw new JsonSyntaxException(e);");
+        close("}");
+        line("in.endObject();");
+        line("return instance;");
+        close("}");
+    }
+
+    /**
+     * Comments in order of {@code FieldHandlerComment} and {@code FieldHandlerValidator} with default validators.
+     */
+    private void generateComments(int i, FieldModel field) {
+        open("private void comments%d(JsonWriter out, Object value) {", i);
+        if (field.comment != null) {
+            open("if (handlers.comments && handlers.commentsFirst) {");
+            line("JHoconHelper.comment(out, comment%d.render(value));", i);
+            close("}");
+        }
+        boolean range = hasRangeComment(field);
+        boolean list = hasListComment(field);
+        if (field.custom) {
+            open("if (validator%d != null) {", i);
+            line("validator%d.onWrite(out, field%d, value);", i, i);
+            if (range || list) {
+                indent--;
+                open("} else {");
+            }
+        }
+        if (range) {
+            open("if (handlers.range) {");
+            line("handlers.comment(out, rangeComment%d);", i);
+            close("}");
+        }
+        if (list) {
+            open("if (handlers.list) {");
+            line("handlers.comment(out, listComment%d);", i);
+            close("}");
+        }
+        if (field.custom) {
+            close("}");
+        }
+        if (field.comment != null) {
+            open("if (handlers.comments && !handlers.commentsFirst) {");
+            line("JHoconHelper.comment(out, comment%d.render(value));", i);
+            close("}");
+        }
+        close("}");
+    }
+
+    /**
+     * Validation in order of default validators: custom, range, list.
+     */
+    private void generateValidate(int i, FieldModel field) {
+        open("private %s validate%d(JsonReader in, %s value) {", field.boxed, i, field.boxed);
+        if (field.custom) {
+            open("if (validator%d != null) {", i);
+            line("return (%s) validator%d.onRead(in, field%d, value);", field.boxed, i, i);
+            close("}");
+        }
+        if (field.intMin != null) {
+            open("if (handlers.range && !inRange(value, %d, %d)) {", field.intMin, field.intMax);
+            line("return handlers.fail(in, value, handlers.rangeValidator);");
+            close("}");
+        } else if (field.doubleMin != null) {
+            open("if (handlers.range && !inRange(value, %s, %s)) {",
+                doubleLiteral(field.doubleMin), doubleLiteral(field.doubleMax));
+            line("return handlers.fail(in, value, handlers.rangeValidator);");
+            close("}");
+        }
+        if (field.values != null) {
+            open("if (handlers.list && !inList(value, VALUES_SET_%d, %b)) {", i, field.invert);
+            line("return handlers.fail(in, value, handlers.listValidator);");
+            close("}");
+        }
+        line("return value;");
+        close("}");
+    }
+
+    private static boolean hasRangeComment(FieldModel field) {
+        return field.number && (field.intMin != null || field.doubleMin != null);
+    }
+
+    private static boolean hasListComment(FieldModel field) {
+        return field.string && field.values != null;
+    }
+
+    private static String typeLiteral(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type + ".class";
+        }
+        if (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty()
+            && !type.toString().contains("<")) {
+            return type + ".class";
+        }
+        if (type.getKind() == TypeKind.ARRAY && !type.toString().contains("<")) {
+            return type + ".class";
+        }
+        return "new TypeToken<" + type + ">() {}.getType()";
+    }
+
+    private static String doubleLiteral(double value) {
+        if (value == Double.POSITIVE_INFINITY) {
+            return "Double.POSITIVE_INFINITY";
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            return "Double.NEGATIVE_INFINITY";
+        } else if (Double.isNaN(value)) {
+            return "Double.NaN";
+        }
+        return Double.toString(value);
+    }
+
+    private String string(String value) {
+        return elements.getConstantExpression(value);
+    }
+
+    private String strings(List<String> values) {
+        StringBuilder b = new StringBuilder();
+        for (String it : values) {
+            if (b.length() > 0) {
+                b.append(", ");
+            }
+            b.append(string(it));
+        }
+        return b.toString();
+    }
+
+    private void open(String format, Object... args) {
+        line(format, args);
+        indent++;
+    }
+
+    private void close(String format, Object... args) {
+        indent--;
+        line(format, args);
+    }
+
+    private void line(String format, Object... args) {
+        String str = args.length == 0 ? format : String.format(format, args);
+        if (!str.isEmpty()) {
+            for (int i = 0; i < indent; ++i) {
+                out.append("    ");
+            }
+        }
+        out.append(str).append('\n');
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.dahaka934.jhocon.processor;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import java.util.List;
+
+/**
+ * Serialized field of annotated class with its annotations, resolved at compile time.
+ */
+final class FieldModel {
+    final VariableElement element;
+    final TypeElement owner;
+    final String name;
+    // serialized name and alternate names
+    final List<String> names;
+    final TypeMirror type;
+    final boolean primitive;
+    // source of boxed type
+    final String boxed;
+    // runtime type of value can't differ from declared type
+    final boolean exactType;
+    final boolean number;
+    final boolean string;
+
+    String comment;
+    Integer intMin;
+    Integer intMax;
+    Double doubleMin;
+    Double doubleMax;
+    List<String> values;
+    boolean invert;
+    boolean custom;
+
+    FieldModel(VariableElement element, TypeElement owner, List<String> names, TypeMirror type, boolean primitive,
+               String boxed, boolean exactType, boolean number, boolean string) {
+        this.element = element;
+        this.owner = owner;
+        this.name = element.getSimpleName().toString();
+        this.names = names;
+        this.type = type;
+        this.primitive = primitive;
+        this.boxed = boxed;
+        this.exactType = exactType;
+        this.number = number;
+        this.string = string;
+    }
+
+    /**
+     * @return true, if value of field is validated
+     */
+    boolean isValidated() {
+        return custom || intMin != null || doubleMin != null || values != null;
+    }
+
+    /**
+     * @return true, if comments may be written above field
+     */
+    boolean isCommented() {
+        return comment != null || custom || (number && (intMin != null || doubleMin != null))
+            || (string && values != null);
+    }
+}
@@ -0,0 +1,264 @@
+package com.github.dahaka934.jhocon.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates {@code JHGeneratedTypeAdapterFactory} for each class annotated with {@code GenerateAdapter}
+ * and lists them in {@code META-INF/services}.<br/>
+ * Classes, which can't be converted without reflection, are reported as compilation errors.
+ */
+@SupportedAnnotationTypes(JHoconAdapterProcessor.GENERATE_ADAPTER)
+public final class JHoconAdapterProcessor extends AbstractProcessor {
+    static final String GENERATE_ADAPTER = "com.github.dahaka934.jhocon.annotations.GenerateAdapter";
+    static final String FACTORY = "com.github.dahaka934.jhocon.JHGeneratedTypeAdapterFactory";
+    static final String SUFFIX = "_JHoconAdapter";
+
+    private static final String ANNOTATIONS = "com.github.dahaka934.jhocon.annotations.";
+    private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+    private static final String JSON_ADAPTER = "com.google.gson.annotations.JsonAdapter";
+
+    private final List<String> factories = new ArrayList<>();
+    private final List<Element> originating = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(GENERATE_ADAPTER);
+        if (annotation != null) {
+            for (Element it : env.getElementsAnnotatedWith(annotation)) {
+                process((TypeElement) it);
+            }
+        }
+        if (env.processingOver() && !factories.isEmpty()) {
+            writeServices();
+        }
+        return true;
+    }
+
+    private void process(TypeElement type) {
+        List<FieldModel> fields = analyze(type);
+        if (fields == null) {
+            return;
+        }
+        Elements elements = processingEnv.getElementUtils();
+        String pkg = elements.getPackageOf(type).getQualifiedName().toString();
+        String name = factoryName(type);
+        String qualified = pkg.isEmpty() ? name : pkg + "." + name;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualified, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(new AdapterSource(elements, pkg, name, type, fields).generate());
+            }
+        } catch (IOException e) {
+            error("Can't write adapter: " + e.getMessage(), type);
+            return;
+        }
+        factories.add(qualified);
+        originating.add(type);
+    }
+
+    private void writeServices() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                "META-INF/services/" + FACTORY, originating.toArray(new Element[0]));
+            try (Writer writer = file.openWriter()) {
+                for (String it : factories) {
+                    writer.write(it);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            error("Can't write services: " + e.getMessage(), null);
+        }
+    }
+
+    /**
+     * @return serialized fields in order of reflective adapter or null, if class is not supported
+     */
+    private List<FieldModel> analyze(TypeElement type) {
+        boolean valid = checkClass(type);
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        List<FieldModel> result = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+
+        // subclass fields first, as in ReflectiveTypeAdapterFactory
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            if (!current.getTypeParameters().isEmpty()) {
+                error("Generic classes are not supported: " + current, type);
+                return null;
+            }
+            boolean samePackage = processingEnv.getElementUtils().getPackageOf(current).equals(pkg);
+            for (Element it : current.getEnclosedElements()) {
+                if (it.getKind() != ElementKind.FIELD) {
+                    continue;
+                }
+                Set<Modifier> modifiers = it.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                    continue; // excluded by default Gson excluder
+                }
+                if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)) {
+                    error("Serialized field must be non-private and non-final", it);
+                    valid = false;
+                    continue;
+                }
+                if (!samePackage && (!modifiers.contains(Modifier.PUBLIC)
+                    || !current.getModifiers().contains(Modifier.PUBLIC))) {
+                    error("Serialized field of superclass from other package must be public", it);
+                    valid = false;
+                    continue;
+                }
+                if (findAnnotation(it, JSON_ADAPTER) != null) {
+                    error("@JsonAdapter on field is not supported", it);
+                    valid = false;
+                    continue;
+                }
+                FieldModel field = analyzeField((VariableElement) it, current);
+                for (String name : field.names) {
+                    if (!names.add(name)) {
+                        error(type + " declares multiple JSON fields named " + name, it);
+                        valid = false;
+                    }
+                }
+                result.add(field);
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return valid ? result : null;
+    }
+
+    private boolean checkClass(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS) {
+            error("@GenerateAdapter is supported only for classes", type);
+            return false;
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            error("@GenerateAdapter is not supported for abstract classes", type);
+            return false;
+        }
+        if (findAnnotation(type, JSON_ADAPTER) != null) {
+            error("@GenerateAdapter can't be used with @JsonAdapter", type);
+            return false;
+        }
+        for (Element it = type; it instanceof TypeElement; it = it.getEnclosingElement()) {
+            TypeElement element = (TypeElement) it;
+            if (element.getNestingKind() != NestingKind.TOP_LEVEL && element.getNestingKind() != NestingKind.MEMBER
+                || element.getModifiers().contains(Modifier.PRIVATE)
+                || (element.getNestingKind() == NestingKind.MEMBER && !element.getModifiers().contains(Modifier.STATIC))) {
+                error("@GenerateAdapter class must be top-level or static nested non-private class", type);
+                return false;
+            }
+        }
+        for (Element it : type.getEnclosedElements()) {
+            if (it.getKind() == ElementKind.CONSTRUCTOR && ((ExecutableElement) it).getParameters().isEmpty()
+                && !it.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        error("@GenerateAdapter class must have non-private no-args constructor", type);
+        return false;
+    }
+
+    private FieldModel analyzeField(VariableElement element, TypeElement owner) {
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+        TypeMirror type = element.asType();
+        boolean primitive = type.getKind().isPrimitive();
+        String boxed = primitive ? types.boxedClass((PrimitiveType) type).getQualifiedName().toString()
+            : type.toString();
+        boolean exactType = primitive
+            || (type.getKind() == TypeKind.ARRAY && ((ArrayType) type).getComponentType().getKind().isPrimitive())
+            || (type.getKind() == TypeKind.DECLARED
+            && ((DeclaredType) type).asElement().getModifiers().contains(Modifier.FINAL));
+        boolean number = primitive
+            ? type.getKind() != TypeKind.BOOLEAN && type.getKind() != TypeKind.CHAR
+            : types.isAssignable(type, elements.getTypeElement("java.lang.Number").asType());
+        boolean string = types.isSameType(type, elements.getTypeElement("java.lang.String").asType());
+
+        List<String> names = new ArrayList<>();
+        AnnotationMirror serializedName = findAnnotation(element, SERIALIZED_NAME);
+        if (serializedName != null) {
+            names.add((String) value(serializedName, "value"));
+            for (Object it : (List<?>) value(serializedName, "alternate")) {
+                names.add((String) ((AnnotationValue) it).getValue());
+            }
+        } else {
+            names.add(element.getSimpleName().toString());
+        }
+
+        FieldModel field = new FieldModel(element, owner, names, type, primitive, boxed, exactType, number, string);
+        AnnotationMirror ann = findAnnotation(element, ANNOTATIONS + "Comment");
+        if (ann != null) {
+            field.comment = (String) value(ann, "value");
+        }
+        ann = findAnnotation(element, ANNOTATIONS + "ValidatorRange");
+        if (ann != null) {
+            field.intMin = (Integer) value(ann, "min");
+            field.intMax = (Integer) value(ann, "max");
+        } else if ((ann = findAnnotation(element, ANNOTATIONS + "ValidatorDoubleRange")) != null) {
+            field.doubleMin = (Double) value(ann, "min");
+            field.doubleMax = (Double) value(ann, "max");
+        }
+        ann = findAnnotation(element, ANNOTATIONS + "ValidatorStringList");
+        if (ann != null) {
+            field.values = new ArrayList<>();
+            for (Object it : (List<?>) value(ann, "value")) {
+                field.values.add((String) ((AnnotationValue) it).getValue());
+            }
+            field.invert = (Boolean) value(ann, "invert");
+        }
+        field.custom = findAnnotation(element, ANNOTATIONS + "ValidatorCustom") != null;
+        return field;
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String name) {
+        for (AnnotationMirror it : element.getAnnotationMirrors()) {
+            if (((TypeElement) it.getAnnotationType().asElement()).getQualifiedName().contentEquals(name)) {
+                return it;
+            }
+        }
+        return null;
+    }
+
+    private Object value(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> it
+            : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (it.getKey().getSimpleName().contentEquals(name)) {
+                return it.getValue().getValue();
+            }
+        }
+        throw new IllegalStateException("Unknown annotation value: " + name);
+    }
+
+    private static String factoryName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName()).append(SUFFIX);
+        for (Element it = type.getEnclosingElement(); it instanceof TypeElement; it = it.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, it.getSimpleName());
+        }
+        return name.toString();
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
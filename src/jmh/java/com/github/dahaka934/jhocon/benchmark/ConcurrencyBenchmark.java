@@ -0,0 +1,78 @@
+package com.github.dahaka934.jhocon.benchmark;
+
+import com.github.dahaka934.jhocon.JHocon;
+import com.github.dahaka934.jhocon.JHoconBuilder;
+import com.github.dahaka934.jhocon.benchmark.Models.Small;
+import com.typesafe.config.ConfigValue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of one {@link JHocon}, shared by all benchmark threads.<br/>
+ * Each thread alternates writing and reading, run with {@code -t 1}, {@code -t 4}, ... {@code -t 64}
+ * to see scaling of shared instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrencyBenchmark {
+    private static final String NAME = "root";
+
+    public enum Options {
+        PLAIN, COMMENTS_VALIDATORS, POOLING
+    }
+
+    @Param
+    public Options options;
+
+    private JHocon jhocon;
+    private Small src;
+    private String hocon;
+    private ConfigValue configValue;
+
+    @State(Scope.Thread)
+    public static class Turn {
+        int counter;
+    }
+
+    @Setup
+    public void setup() {
+        JHoconBuilder builder = new JHoconBuilder();
+        if (options == Options.COMMENTS_VALIDATORS) {
+            builder.withComments().registerDefaultValidators();
+        }
+        if (options == Options.POOLING) {
+            builder.withPooling();
+        }
+        jhocon = builder.create();
+        src = new Small();
+        hocon = jhocon.toHocon(NAME, src);
+        configValue = jhocon.toConfigValue(src);
+    }
+
+    /**
+     * Mixed text conversion: {@code toHocon} and {@code fromHocon} by turns.
+     */
+    @Benchmark
+    public Object mixedHocon(Turn turn) {
+        if ((turn.counter++ & 1) == 0) {
+            return jhocon.toHocon(NAME, src);
+        }
+        return jhocon.fromHocon(hocon, NAME, Small.class);
+    }
+
+    /**
+     * Mixed conversion without rendering and parsing: {@code toConfigValue} and {@code fromHocon} by turns.
+     */
+    @Benchmark
+    public Object mixedConfigValue(Turn turn) {
+        if ((turn.counter++ & 1) == 0) {
+            return jhocon.toConfigValue(src);
+        }
+        return jhocon.fromHocon(configValue, Small.class);
+    }
+}
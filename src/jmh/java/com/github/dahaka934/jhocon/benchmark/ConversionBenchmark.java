@@ -0,0 +1,139 @@
+package com.github.dahaka934.jhocon.benchmark;
+
+import com.github.dahaka934.jhocon.JHocon;
+import com.github.dahaka934.jhocon.JHoconBuilder;
+import com.github.dahaka934.jhocon.benchmark.Models.Shape;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigRenderOptions;
+import com.typesafe.config.ConfigResolveOptions;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of every {@link JHocon} conversion path.<br/>
+ * Benchmarks prefixed with 'stage' measure single Typesafe Config steps of a conversion,
+ * so the cost of Gson reflection layer can be estimated by subtraction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionBenchmark {
+    private static final String NAME = "root";
+
+    public enum Options {
+        PLAIN, COMMENTS, VALIDATORS, COMMENTS_VALIDATORS, METHOD_HANDLES, FIELD_DRIVEN, POOLING
+    }
+
+    @Param
+    public Shape shape;
+
+    @Param
+    public Options options;
+
+    private JHocon jhocon;
+    private Object src;
+    private Class<?> type;
+    private String hocon;
+    private Config config;
+    private ConfigValue configValue;
+    private Object objectTree;
+    private ConfigRenderOptions renderOptions;
+
+    @Setup
+    public void setup() {
+        JHoconBuilder builder = new JHoconBuilder();
+        if (options == Options.COMMENTS || options == Options.COMMENTS_VALIDATORS) {
+            builder.withComments();
+        }
+        if (options == Options.VALIDATORS || options == Options.COMMENTS_VALIDATORS) {
+            builder.registerDefaultValidators();
+        }
+        if (options == Options.METHOD_HANDLES) {
+            builder.withMethodHandleAccessors();
+        }
+        if (options == Options.FIELD_DRIVEN) {
+            builder.withFieldDrivenReading();
+        }
+        if (options == Options.POOLING) {
+            builder.withPooling();
+        }
+        jhocon = builder.create();
+
+        src = shape.create();
+        type = shape.type;
+        hocon = jhocon.toHocon(NAME, src, type);
+        config = jhocon.toConfig(NAME, src, type);
+        configValue = config.getValue(NAME);
+        objectTree = jhocon.toObjectTree(src, type);
+        renderOptions = ConfigRenderOptions.defaults().setJson(false)
+            .setOriginComments(options == Options.COMMENTS || options == Options.COMMENTS_VALIDATORS);
+    }
+
+    @Benchmark
+    public Object toObjectTree() {
+        return jhocon.toObjectTree(src, type);
+    }
+
+    @Benchmark
+    public ConfigValue toConfigValue() {
+        return jhocon.toConfigValue(src, type);
+    }
+
+    @Benchmark
+    public Config toConfig() {
+        return jhocon.toConfig(NAME, src, type);
+    }
+
+    @Benchmark
+    public String toHocon() {
+        return jhocon.toHocon(NAME, src, type);
+    }
+
+    @Benchmark
+    public Object fromHoconString() {
+        return jhocon.fromHocon(hocon, NAME, (Type) type);
+    }
+
+    @Benchmark
+    public Object fromHoconStringClass() {
+        return jhocon.fromHocon(hocon, NAME, type);
+    }
+
+    @Benchmark
+    public Object fromHoconConfigValue() {
+        return jhocon.fromHocon(configValue, (Type) type);
+    }
+
+    @Benchmark
+    public Object fromHoconConfigValueClass() {
+        return jhocon.fromHocon(configValue, type);
+    }
+
+    @Benchmark
+    public ConfigValue stageFromAnyRef() {
+        return ConfigValueFactory.fromAnyRef(objectTree);
+    }
+
+    @Benchmark
+    public String stageRender() {
+        return config.root().render(renderOptions);
+    }
+
+    @Benchmark
+    public ConfigValue stageParse() {
+        return ConfigFactory.parseString(hocon).resolve(ConfigResolveOptions.defaults()).getValue(NAME);
+    }
+
+    @Benchmark
+    public Object stageUnwrapped() {
+        return configValue.unwrapped();
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.dahaka934.jhocon.benchmark;
+
+import com.github.dahaka934.jhocon.JHocon;
+import com.github.dahaka934.jhocon.JHoconBuilder;
+import com.typesafe.config.ConfigValue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading of deeply nested document.<br/>
+ * Run with {@code -prof gc}: with pooled readers {@code gc.alloc.rate.norm} grows with depth
+ * only by created objects themselves, because frames of reader are reused.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepDocumentBenchmark {
+
+    public enum Engine {
+        PLAIN, POOLED, POOLED_FIELD_DRIVEN
+    }
+
+    public static class Level {
+        public int value;
+        public Level next;
+    }
+
+    @Param({"1", "16", "64"})
+    public int depth;
+
+    @Param
+    public Engine engine;
+
+    private JHocon jhocon;
+    private Level src;
+    private ConfigValue configValue;
+
+    @Setup
+    public void setup() {
+        JHoconBuilder builder = new JHoconBuilder();
+        if (engine != Engine.PLAIN) {
+            builder.withPooling();
+        }
+        if (engine == Engine.POOLED_FIELD_DRIVEN) {
+            builder.withFieldDrivenReading();
+        }
+        jhocon = builder.create();
+
+        for (int i = 0; i < depth; ++i) {
+            Level level = new Level();
+            level.value = i;
+            level.next = src;
+            src = level;
+        }
+        configValue = jhocon.toConfigValue(src);
+    }
+
+    @Benchmark
+    public Object fromHoconConfigValue() {
+        return jhocon.fromHocon(configValue, Level.class);
+    }
+
+    @Benchmark
+    public Object toObjectTree() {
+        return jhocon.toObjectTree(src, Level.class);
+    }
+}
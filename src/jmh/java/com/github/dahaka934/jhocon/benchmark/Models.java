@@ -0,0 +1,128 @@
+package com.github.dahaka934.jhocon.benchmark;
+
+import com.github.dahaka934.jhocon.annotations.Comment;
+import com.github.dahaka934.jhocon.annotations.ValidatorDoubleRange;
+import com.github.dahaka934.jhocon.annotations.ValidatorRange;
+import com.github.dahaka934.jhocon.annotations.ValidatorStringList;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Object graphs used by benchmarks.
+ */
+public final class Models {
+    private Models() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static final class Leaf {
+        @Comment("leaf name")
+        @ValidatorStringList(value = {"reserved"}, invert = true)
+        public String name;
+        @Comment
+        @ValidatorRange(min = 0, max = Integer.MAX_VALUE)
+        public int count;
+        @Comment
+        @ValidatorDoubleRange(min = 0.0, max = 1.0)
+        public double ratio;
+        public long timestamp;
+        public boolean enabled;
+
+        public Leaf() {}
+
+        Leaf(int i) {
+            name = "leaf" + i;
+            count = i;
+            ratio = (i % 100) / 100.0;
+            timestamp = 1_500_000_000_000L + i;
+            enabled = i % 2 == 0;
+        }
+    }
+
+    /**
+     * A few fields and a short list.
+     */
+    public static final class Small {
+        @Comment("small object")
+        public String title = "small";
+        public Leaf leaf = new Leaf(1);
+        public List<Leaf> leaves = new ArrayList<>();
+        public int[] numbers = {1, 2, 3, 4, 5};
+
+        public Small() {
+            for (int i = 0; i < 4; ++i) {
+                leaves.add(new Leaf(i));
+            }
+        }
+    }
+
+    /**
+     * Thousands of keys on one level.
+     */
+    public static final class Wide {
+        public Map<String, Leaf> leaves = new LinkedHashMap<>();
+        public Map<String, Integer> numbers = new LinkedHashMap<>();
+
+        public Wide() {}
+
+        Wide(int size) {
+            for (int i = 0; i < size; ++i) {
+                leaves.put("key" + i, new Leaf(i));
+                numbers.put("num" + i, i);
+            }
+        }
+    }
+
+    /**
+     * Hundreds of nesting levels.
+     */
+    public static final class Deep {
+        public Leaf leaf;
+        public Deep child;
+
+        public Deep() {}
+
+        Deep(int depth) {
+            Deep curr = this;
+            for (int i = 0; i < depth; ++i) {
+                curr.leaf = new Leaf(i);
+                if (i + 1 < depth) {
+                    curr.child = new Deep();
+                    curr = curr.child;
+                }
+            }
+        }
+    }
+
+    public enum Shape {
+        SMALL(Small.class) {
+            @Override
+            Object create() {
+                return new Small();
+            }
+        },
+        WIDE(Wide.class) {
+            @Override
+            Object create() {
+                return new Wide(2000);
+            }
+        },
+        DEEP(Deep.class) {
+            @Override
+            Object create() {
+                return new Deep(200);
+            }
+        };
+
+        final Class<?> type;
+
+        Shape(Class<?> type) {
+            this.type = type;
+        }
+
+        abstract Object create();
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.annotations.GenerateAdapter;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandler;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerValidator;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidator;
+import com.github.dahaka934.jhocon.reader.JHoconBaseReader;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactoryEx;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+/**
+ * Factory of type adapter for one class, which is generated at compile time by jhocon-processor
+ * for classes annotated with {@link GenerateAdapter}.<br/>
+ * Generated adapter writes and reads fields directly, as reflective adapter of {@link JHReflectTypeAdapterFactory}
+ * with {@link com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerComment} and {@link FieldHandlerValidator}
+ * with default validators does. Factories are loaded by {@link java.util.ServiceLoader}
+ * and used by {@link JHReflectTypeAdapterFactory} only, if registered handlers can be reproduced.
+ *
+ * @see JHoconBuilder#withGeneratedAdapters()
+ */
+public abstract class JHGeneratedTypeAdapterFactory {
+    private final Class<?> type;
+
+    protected JHGeneratedTypeAdapterFactory(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * @return class, which is converted by created adapters
+     */
+    public final Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Creates adapter, which applies {@code handlers} to fields.
+     */
+    public abstract TypeAdapter<?> create(Gson gson, Handlers handlers);
+
+    /**
+     * @return adapter for writing field with declared {@code type}, which respects runtime type of value
+     */
+    protected static <T> TypeAdapter<T> writeAdapter(Gson gson, TypeAdapter<T> adapter, Type type) {
+        return ReflectiveTypeAdapterFactoryEx.runtimeTypeAdapter(gson, adapter, type);
+    }
+
+    /**
+     * @return true, if {@code value} satisfies {@link com.github.dahaka934.jhocon.annotations.ValidatorRange}
+     */
+    protected static boolean inRange(Object value, int min, int max) {
+        if (value instanceof Number) {
+            int n = ((Number) value).intValue();
+            return min <= n && n <= max;
+        }
+        return true;
+    }
+
+    /**
+     * @return true, if {@code value} satisfies {@link com.github.dahaka934.jhocon.annotations.ValidatorDoubleRange}
+     */
+    protected static boolean inRange(Object value, double min, double max) {
+        if (value instanceof Number) {
+            double n = ((Number) value).doubleValue();
+            return min <= n && n <= max;
+        }
+        return true;
+    }
+
+    /**
+     * @return true, if {@code value} satisfies {@link com.github.dahaka934.jhocon.annotations.ValidatorStringList}
+     */
+    protected static boolean inList(Object value, Set<String> values, boolean invert) {
+        return !(value instanceof String) || !invert == values.contains(value);
+    }
+
+    /**
+     * Field handlers, which are reproduced by generated adapters.
+     */
+    public static final class Handlers {
+        /**
+         * {@link com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerComment} is registered.
+         */
+        public final boolean comments;
+        /**
+         * Comment is written before comments of validators.
+         */
+        public final boolean commentsFirst;
+        /**
+         * Registered {@link FieldHandlerValidator} or null.
+         */
+        public final FieldHandlerValidator validator;
+        /**
+         * Default validators, which are registered in {@link #validator}.
+         */
+        public final boolean custom;
+        public final boolean range;
+        public final boolean list;
+        /**
+         * Registered instances of default validators or null, reported on failure.
+         */
+        public final FieldValidator rangeValidator;
+        public final FieldValidator listValidator;
+
+        Handlers(boolean comments, boolean commentsFirst, FieldHandlerValidator validator,
+                 boolean custom, FieldValidator rangeValidator, FieldValidator listValidator) {
+            this.comments = comments;
+            this.commentsFirst = commentsFirst;
+            this.validator = validator;
+            this.custom = custom;
+            this.range = rangeValidator != null;
+            this.list = listValidator != null;
+            this.rangeValidator = rangeValidator;
+            this.listValidator = listValidator;
+        }
+
+        /**
+         * @return true, if comments are written to {@code writer}
+         */
+        public boolean isWithComments(JsonWriter writer) {
+            return JHoconHelper.isWithComments(writer);
+        }
+
+        /**
+         * @return true, if read values are validated for {@code reader}
+         */
+        public boolean isValidating(JsonReader reader) {
+            return validator != null && reader instanceof JHoconBaseReader;
+        }
+
+        public void comment(JsonWriter writer, String comment) {
+            if (comment != null && !comment.isEmpty()) {
+                JHoconHelper.comment(writer, comment);
+            }
+        }
+
+        /**
+         * Reports invalid {@code value}, rejected by registered {@code rejectedBy}.
+         *
+         * @return value, which is written to field instead of invalid one
+         * @see FieldHandlerValidator#onFail(JsonReader, Object, FieldValidator)
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T fail(JsonReader reader, T value, FieldValidator rejectedBy) {
+            return (T) validator.onFail(reader, value, rejectedBy);
+        }
+
+        /**
+         * Looks up field with custom validator. Called once per field, when adapter is created.
+         */
+        public Field field(Class<?> owner, String name) {
+            try {
+                return owner.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException("Generated adapter is outdated for " + owner.getName(), e);
+            }
+        }
+
+        /**
+         * @return validator handler bound to {@code field} or null, if values are not validated
+         */
+        public FieldHandler bindValidator(Field field) {
+            return validator != null && custom ? validator.bind(field) : null;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.fieldlhandler.ValidationFailure;
+import com.github.dahaka934.jhocon.reader.JHoconReader;
+import com.github.dahaka934.jhocon.writer.JHoconWriter;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.internal.$Gson$Types;
+import com.google.gson.internal.bind.CollectionTypeAdapterFactory;
+import com.google.gson.internal.bind.MapTypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+
+/**
+ * {@link TypeAdapterFactory} for collections and maps with string keys, which reads and writes large
+ * {@link ConfigList} and {@link ConfigObject} in parallel.<br/>
+ * Elements are split into {@link ForkJoinPool} tasks, each element is read by own {@link JHoconReader},
+ * results are added to collection in original order. Element readers report paths relative to the parent
+ * reader, and validation failures, collected by ranges, are added to failures of the parent reader
+ * in original order. Each range of elements is written by Gson adapter
+ * to own {@link JHoconWriter}, outputs are merged in original order.
+ * Collections smaller than threshold, and collections read from other readers or written to other
+ * writers (including HOCON text), are processed sequentially by Gson adapter.
+ * Used only instead of built-in Gson adapters, so custom adapters are not overridden.
+ */
+public class JHParallelCollectionTypeAdapterFactory implements TypeAdapterFactory {
+    private static final int MIN_CHUNK = 64;
+
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param threshold the minimum size of collection, which is read in parallel
+     * @param pool      the pool for reading tasks
+     */
+    public JHParallelCollectionTypeAdapterFactory(int threshold, ForkJoinPool pool) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive");
+        }
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Type typeOfT = type.getType();
+        Class<? super T> raw = type.getRawType();
+        TypeAdapter<T> another;
+        if (Collection.class.isAssignableFrom(raw)) {
+            another = gson.getDelegateAdapter(this, type);
+            if (another.getClass().getEnclosingClass() != CollectionTypeAdapterFactory.class) {
+                return another;
+            }
+            Type elementType = $Gson$Types.getCollectionElementType(typeOfT, raw);
+            TypeAdapter<Object> elementAdapter = (TypeAdapter<Object>) gson.getAdapter(TypeToken.get(elementType));
+            return (TypeAdapter<T>) new CollectionAdapter<>((TypeAdapter<Collection<Object>>) another, elementAdapter);
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            another = gson.getDelegateAdapter(this, type);
+            if (another.getClass().getEnclosingClass() != MapTypeAdapterFactory.class) {
+                return another;
+            }
+            Type[] keyAndValueTypes = $Gson$Types.getMapKeyAndValueTypes(typeOfT, raw);
+            if (keyAndValueTypes[0] != String.class) {
+                return another;
+            }
+            TypeAdapter<Object> valueAdapter =
+                (TypeAdapter<Object>) gson.getAdapter(TypeToken.get(keyAndValueTypes[1]));
+            return (TypeAdapter<T>) new MapAdapter<>((TypeAdapter<Map<String, Object>>) another, valueAdapter);
+        }
+        return null;
+    }
+
+    /**
+     * Reads {@code values} by {@code adapter} into array in parallel.
+     *
+     * @param parent reader of collection, which is positioned at its start
+     * @param pathOf the path of element relative to collection by its index
+     */
+    private Object[] readAll(JHoconReader parent, List<?> values, IntFunction<String> pathOf,
+                             TypeAdapter<?> adapter) throws IOException {
+        Object[] result = new Object[values.size()];
+        String path = parent.getPath();
+        List<ValidationFailure> failures = parent.getFailures();
+        Map<Integer, List<ValidationFailure>> rangeFailures = new ConcurrentSkipListMap<>();
+        forEachRange(values.size(), (from, to) -> {
+            List<ValidationFailure> collected = null;
+            if (failures != null) {
+                collected = new ArrayList<>();
+                rangeFailures.put(from, collected);
+            }
+            for (int i = from; i < to; ++i) {
+                JHoconReader reader = new JHoconReader(values.get(i));
+                reader.setPathPrefix(path + pathOf.apply(i));
+                reader.setFailures(collected);
+                result[i] = adapter.read(reader);
+            }
+        });
+        if (failures != null) {
+            rangeFailures.values().forEach(failures::addAll);
+        }
+        return result;
+    }
+
+    /**
+     * Writes ranges of elements in parallel, each range is written by {@code writer} to own {@link JHoconWriter}.
+     *
+     * @return array, where output of range is stored at its start index
+     */
+    private ConfigValue[] writeAll(int size, boolean withComments, RangeWriter writer) throws IOException {
+        ConfigValue[] result = new ConfigValue[size];
+        forEachRange(size, (from, to) -> {
+            JHoconWriter out = new JHoconWriter(withComments);
+            writer.write(out, from, to);
+            result[from] = (ConfigValue) out.output();
+        });
+        return result;
+    }
+
+    private void forEachRange(int size, RangeAction action) throws IOException {
+        int chunk = Math.max(MIN_CHUNK, size / (pool.getParallelism() * 4));
+        RangeTask task = new RangeTask(action, 0, size, chunk);
+        try {
+            if (ForkJoinTask.getPool() == pool) {
+                task.invoke(); // nested collection, already inside of pool
+            } else {
+                pool.invoke(task);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private interface RangeAction {
+        void run(int from, int to) throws IOException;
+    }
+
+    private interface RangeWriter {
+        void write(JHoconWriter out, int from, int to) throws IOException;
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeAction action;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        RangeTask(RangeAction action, int from, int to, int chunk) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunk) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(action, from, middle, chunk), new RangeTask(action, middle, to, chunk));
+                return;
+            }
+            try {
+                action.run(from, to);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private final class CollectionAdapter<E> extends TypeAdapter<Collection<E>> {
+        private final TypeAdapter<Collection<E>> delegate;
+        private final TypeAdapter<E> elementAdapter;
+
+        CollectionAdapter(TypeAdapter<Collection<E>> delegate, TypeAdapter<E> elementAdapter) {
+            this.delegate = delegate;
+            this.elementAdapter = elementAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, Collection<E> value) throws IOException {
+            if (!(out instanceof JHoconWriter) || value == null || value.size() < threshold) {
+                delegate.write(out, value);
+                return;
+            }
+
+            // ranges are written by delegate, so elements are written exactly as by Gson
+            List<E> elements = new ArrayList<>(value);
+            JHoconWriter writer = (JHoconWriter) out;
+            ConfigValue[] parts = writeAll(elements.size(), writer.isWithComments(),
+                (range, from, to) -> delegate.write(range, elements.subList(from, to)));
+            writer.beginArray();
+            for (ConfigValue part : parts) {
+                if (part != null) {
+                    for (ConfigValue it : (ConfigList) part) {
+                        writer.configValue(it);
+                    }
+                }
+            }
+            writer.endArray();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Collection<E> read(JsonReader in) throws IOException {
+            if (!(in instanceof JHoconReader) || in.peek() != JsonToken.BEGIN_ARRAY) {
+                return delegate.read(in);
+            }
+            Object value = ((JHoconReader) in).peekValue();
+            if (!(value instanceof List) || ((List<?>) value).size() < threshold) {
+                return delegate.read(in);
+            }
+
+            Object[] elements = readAll((JHoconReader) in, (List<?>) value, i -> "[" + i + "]", elementAdapter);
+            // empty collection is created by delegate, so instance creators are respected
+            Collection<E> collection = delegate.read(new JHoconReader(Collections.emptyList()));
+            for (Object it : elements) {
+                collection.add((E) it);
+            }
+            in.skipValue();
+            return collection;
+        }
+    }
+
+    private final class MapAdapter<V> extends TypeAdapter<Map<String, V>> {
+        private final TypeAdapter<Map<String, V>> delegate;
+        private final TypeAdapter<V> valueAdapter;
+
+        MapAdapter(TypeAdapter<Map<String, V>> delegate, TypeAdapter<V> valueAdapter) {
+            this.delegate = delegate;
+            this.valueAdapter = valueAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, Map<String, V> value) throws IOException {
+            if (!(out instanceof JHoconWriter) || value == null || value.size() < threshold) {
+                delegate.write(out, value);
+                return;
+            }
+
+            List<String> keys = new ArrayList<>(value.keySet());
+            JHoconWriter writer = (JHoconWriter) out;
+            ConfigValue[] parts = writeAll(keys.size(), writer.isWithComments(), (range, from, to) -> {
+                Map<String, V> map = new LinkedHashMap<>();
+                for (String key : keys.subList(from, to)) {
+                    map.put(key, value.get(key));
+                }
+                delegate.write(range, map);
+            });
+            writer.beginObject();
+            ConfigObject part = null;
+            for (int i = 0; i < parts.length; ++i) {
+                if (parts[i] != null) {
+                    part = (ConfigObject) parts[i];
+                }
+                // keys, which are not written by delegate (for example with null value), are missed
+                ConfigValue it = part.get(keys.get(i));
+                if (it != null) {
+                    writer.name(keys.get(i));
+                    writer.configValue(it);
+                }
+            }
+            writer.endObject();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, V> read(JsonReader in) throws IOException {
+            if (!(in instanceof JHoconReader) || in.peek() != JsonToken.BEGIN_OBJECT) {
+                return delegate.read(in);
+            }
+            Object value = ((JHoconReader) in).peekValue();
+            if (!(value instanceof Map) || ((Map<?, ?>) value).size() < threshold) {
+                return delegate.read(in);
+            }
+
+            Map<String, ?> source = (Map<String, ?>) value;
+            List<String> keys = new ArrayList<>(source.keySet());
+            List<Object> values = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                values.add(source.get(key));
+            }
+            Object[] elements = readAll((JHoconReader) in, values, i -> "." + keys.get(i), valueAdapter);
+            Map<String, V> map = delegate.read(new JHoconReader(Collections.emptyMap()));
+            for (int i = 0; i < elements.length; ++i) {
+                map.put(keys.get(i), (V) elements[i]);
+            }
+            in.skipValue();
+            return map;
+        }
+    }
+}
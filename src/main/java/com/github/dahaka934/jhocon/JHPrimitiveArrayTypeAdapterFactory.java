@@ -0,0 +1,177 @@
+package com.github.dahaka934.jhocon;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.internal.bind.ArrayTypeAdapter;
+import com.google.gson.internal.bind.TypeAdapters;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * {@link TypeAdapterFactory} for {@code int[]}, {@code long[]} and {@code double[]}.<br/>
+ * Unlike Gson array adapter, elements are written and read as primitives without boxing.
+ * Used only instead of built-in Gson adapters, so custom adapters are not overridden.
+ */
+public class JHPrimitiveArrayTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        if (raw != int[].class && raw != long[].class && raw != double[].class) {
+            return null;
+        }
+
+        TypeAdapter<T> another = gson.getDelegateAdapter(this, type);
+        if (!(another instanceof ArrayTypeAdapter)) {
+            return another;
+        }
+
+        if (raw == int[].class && isAdapter(gson.getAdapter(int.class), TypeAdapters.INTEGER)) {
+            return (TypeAdapter<T>) INT_ARRAY;
+        }
+        if (raw == long[].class && isAdapter(gson.getAdapter(long.class), TypeAdapters.LONG)) {
+            return (TypeAdapter<T>) LONG_ARRAY;
+        }
+        if (raw == double[].class) {
+            TypeAdapter<Double> component = gson.getAdapter(double.class);
+            // Gson uses TypeAdapters.DOUBLE or own anonymous adapter, which checks special values
+            if (isAdapter(component, TypeAdapters.DOUBLE) || component.getClass().getEnclosingClass() == Gson.class) {
+                return (TypeAdapter<T>) new DoubleArrayAdapter(component);
+            }
+        }
+        return another;
+    }
+
+    private static boolean isAdapter(TypeAdapter<?> adapter, TypeAdapter<?> builtIn) {
+        return adapter == builtIn;
+    }
+
+    private static final TypeAdapter<int[]> INT_ARRAY = new TypeAdapter<int[]>() {
+        @Override
+        public void write(JsonWriter out, int[] value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (int it : value) {
+                out.value(it);
+            }
+            out.endArray();
+        }
+
+        @Override
+        public int[] read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            int[] array = new int[16];
+            int size = 0;
+            in.beginArray();
+            while (in.hasNext()) {
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, size * 2);
+                }
+                try {
+                    array[size++] = in.nextInt();
+                } catch (NumberFormatException e) {
+                    throw new JsonSyntaxException(e);
+                }
+            }
+            in.endArray();
+            return Arrays.copyOf(array, size);
+        }
+    };
+
+    private static final TypeAdapter<long[]> LONG_ARRAY = new TypeAdapter<long[]>() {
+        @Override
+        public void write(JsonWriter out, long[] value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (long it : value) {
+                out.value(it);
+            }
+            out.endArray();
+        }
+
+        @Override
+        public long[] read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            long[] array = new long[16];
+            int size = 0;
+            in.beginArray();
+            while (in.hasNext()) {
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, size * 2);
+                }
+                try {
+                    array[size++] = in.nextLong();
+                } catch (NumberFormatException e) {
+                    throw new JsonSyntaxException(e);
+                }
+            }
+            in.endArray();
+            return Arrays.copyOf(array, size);
+        }
+    };
+
+    private static final class DoubleArrayAdapter extends TypeAdapter<double[]> {
+        private final TypeAdapter<Double> component;
+
+        DoubleArrayAdapter(TypeAdapter<Double> component) {
+            this.component = component;
+        }
+
+        @Override
+        public void write(JsonWriter out, double[] value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (double it : value) {
+                if (Double.isNaN(it) || Double.isInfinite(it)) {
+                    // component adapter knows, whether special values are allowed
+                    component.write(out, it);
+                } else {
+                    out.value(it);
+                }
+            }
+            out.endArray();
+        }
+
+        @Override
+        public double[] read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            double[] array = new double[16];
+            int size = 0;
+            in.beginArray();
+            while (in.hasNext()) {
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, size * 2);
+                }
+                array[size++] = in.nextDouble();
+            }
+            in.endArray();
+            return Arrays.copyOf(array, size);
+        }
+    }
+}
@@ -1,35 +1,201 @@
 package com.github.dahaka934.jhocon;
 
 import com.github.dahaka934.jhocon.fieldlhandler.FieldHandler;
-import com.github.dahaka934.jhocon.reader.JHoconReader;
-import com.github.dahaka934.jhocon.writer.JHoconWriter;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerComment;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerValidator;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidator;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorCustomAnnotation;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorList;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorRange;
+import com.github.dahaka934.jhocon.reader.JHoconBaseReader;
+import com.github.dahaka934.jhocon.writer.JHoconBaseWriter;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
 import com.google.gson.TypeAdapter;
+import com.google.gson.internal.Excluder;
 import com.google.gson.internal.bind.ReflectiveTypeAdapterFactoryEx;
+import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 public class JHReflectTypeAdapterFactory extends ReflectiveTypeAdapterFactoryEx {
 
+    // not modified after freeze, generated is replaced by immutable copy
     protected final List<FieldHandler> handlers = new ArrayList<>();
+    protected Map<Class<?>, JHGeneratedTypeAdapterFactory> generated = new HashMap<>();
+    private boolean frozen = false;
+
+    /**
+     * Makes registered handlers, their validators and generated adapters immutable,
+     * so they can be read by any thread without synchronization.
+     * Called by {@link JHoconBuilder#create()} before {@link com.google.gson.Gson} is created,
+     * further registration throws {@link IllegalStateException}.
+     */
+    public void freeze() {
+        if (frozen) {
+            return;
+        }
+        frozen = true;
+        generated = Collections.unmodifiableMap(new HashMap<>(generated));
+        for (FieldHandler it : handlers) {
+            if (it instanceof FieldHandlerValidator) {
+                ((FieldHandlerValidator) it).freeze();
+            }
+        }
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("registration is not allowed after JHocon is created");
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if JHocon is already created
+     * @see JHoconBuilder#withMethodHandleAccessors()
+     */
+    @Override
+    public void setUseMethodHandles(boolean value) {
+        checkNotFrozen();
+        super.setUseMethodHandles(value);
+    }
+
+    /**
+     * @throws IllegalStateException if JHocon is already created
+     * @see JHoconBuilder#withFieldDrivenReading()
+     */
+    @Override
+    public void setFieldDrivenReading(boolean value) {
+        checkNotFrozen();
+        super.setFieldDrivenReading(value);
+    }
+
+    /**
+     * Register type adapter factory, generated for class annotated with
+     * {@link com.github.dahaka934.jhocon.annotations.GenerateAdapter}.
+     * It's used instead of reflective adapter, if registered handlers and Gson settings can be reproduced by it.
+     * Subclasses, which may change binding of fields, don't use generated adapters.
+     */
+    public void registerGenerated(JHGeneratedTypeAdapterFactory factory) {
+        checkNotFrozen();
+        generated.put(factory.getType(), factory);
+    }
 
     /**
      * Register custom {@link FieldHandler}.
+     * Handlers are bound to fields, when type adapter is created,
+     * so they should be registered before first conversion.
      *
      * @see FieldHandler
      */
     public void register(FieldHandler handler) {
+        checkNotFrozen();
         handlers.add(handler);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> TypeAdapter<T> createGenerated(Gson gson, TypeToken<T> type) {
+        JHGeneratedTypeAdapterFactory factory = generated.get(type.getRawType());
+        // generated code knows only default field binding, names, exclusions and no-args constructor
+        if (factory == null || getClass() != JHReflectTypeAdapterFactory.class
+            || gson.fieldNamingStrategy() != FieldNamingPolicy.IDENTITY
+            || gson.excluder() != Excluder.DEFAULT || hasInstanceCreator(gson, type)) {
+            return null;
+        }
+        JHGeneratedTypeAdapterFactory.Handlers it = generatedHandlers();
+        return it != null ? (TypeAdapter<T>) factory.create(gson, it) : null;
+    }
+
+    /**
+     * @return registered handlers for generated adapters or null, if some handler can't be reproduced by them
+     */
+    private JHGeneratedTypeAdapterFactory.Handlers generatedHandlers() {
+        boolean comments = false;
+        boolean commentsFirst = false;
+        FieldHandlerValidator validator = null;
+        for (FieldHandler it : handlers) {
+            if (it.getClass() == FieldHandlerComment.class && !comments) {
+                comments = true;
+                commentsFirst = validator == null;
+            } else if (it.getClass() == FieldHandlerValidator.class && validator == null) {
+                validator = (FieldHandlerValidator) it;
+            } else {
+                return null;
+            }
+        }
+
+        // default validators in order of JHoconBuilder.registerDefaultValidators
+        List<Class<?>> order = Arrays.asList(
+            FieldValidatorCustomAnnotation.class, FieldValidatorRange.class, FieldValidatorList.class);
+        FieldValidator[] present = new FieldValidator[order.size()];
+        int last = -1;
+        if (validator != null) {
+            for (FieldValidator it : validator.getValidators()) {
+                int index = order.indexOf(it.getClass());
+                if (index <= last) {
+                    return null;
+                }
+                present[index] = it;
+                last = index;
+            }
+        }
+        return new JHGeneratedTypeAdapterFactory.Handlers(comments, commentsFirst, validator,
+            present[0] != null, present[1], present[2]);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void writeField(JsonWriter writer, TypeAdapter adapter, Field field, Object value) throws IOException {
-        if (writer instanceof JHoconWriter) {
+        write(writer, adapter, field, value, handlers);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object readField(JsonReader reader, TypeAdapter adapter, Field field) throws IOException {
+        return read(reader, adapter, field, handlers);
+    }
+
+    /**
+     * Binds all registered handlers to {@code field}.
+     * Handlers, which do nothing for {@code field}, are skipped.
+     * Subclasses are not specialized, so their overridden {@link #writeField} and {@link #readField} are called.
+     */
+    @Override
+    protected FieldBinding bindField(Field field) {
+        if (getClass() != JHReflectTypeAdapterFactory.class) {
+            return super.bindField(field);
+        }
+        List<FieldHandler> bound = new ArrayList<>();
+        for (FieldHandler it : handlers) {
+            FieldHandler handler = it.bind(field);
+            if (handler != null) {
+                bound.add(handler);
+            }
+        }
+        if (bound.isEmpty()) {
+            return null;
+        }
+        return new FieldBinding() {
+            @Override
+            public void write(JsonWriter writer, TypeAdapter<Object> adapter, Object value) throws IOException {
+                JHReflectTypeAdapterFactory.write(writer, adapter, field, value, bound);
+            }
+
+            @Override
+            public Object read(JsonReader reader, TypeAdapter<Object> adapter) throws IOException {
+                return JHReflectTypeAdapterFactory.read(reader, adapter, field, bound);
+            }
+        };
+    }
+
+    private static void write(JsonWriter writer, TypeAdapter<Object> adapter, Field field, Object value,
+                              List<FieldHandler> handlers) throws IOException {
+        if (writer instanceof JHoconBaseWriter) {
             for (FieldHandler it : handlers) {
                 value = it.onWrite(writer, field, value);
             }
@@ -37,10 +203,10 @@ public class JHReflectTypeAdapterFactory extends ReflectiveTypeAdapterFactoryEx
         adapter.write(writer, value);
     }
 
-    @Override
-    public Object readField(JsonReader reader, TypeAdapter adapter, Field field) throws IOException {
+    private static Object read(JsonReader reader, TypeAdapter<Object> adapter, Field field,
+                               List<FieldHandler> handlers) throws IOException {
         Object ret = adapter.read(reader);
-        if (reader instanceof JHoconReader) {
+        if (reader instanceof JHoconBaseReader) {
             for (FieldHandler it : handlers) {
                 if (ret == null) {
                     break;
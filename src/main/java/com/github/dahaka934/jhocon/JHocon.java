@@ -1,39 +1,77 @@
 package com.github.dahaka934.jhocon;
 
+import com.github.dahaka934.jhocon.fieldlhandler.ValidationFailure;
 import com.github.dahaka934.jhocon.reader.JHoconReader;
+import com.github.dahaka934.jhocon.reader.JHoconStreamReader;
+import com.github.dahaka934.jhocon.reader.MappedFileReader;
+import com.github.dahaka934.jhocon.reader.PathSelector;
+import com.github.dahaka934.jhocon.writer.JHoconTextWriter;
 import com.github.dahaka934.jhocon.writer.JHoconWriter;
 import com.google.gson.Gson;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
 import com.google.gson.internal.Primitives;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactoryEx;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.MalformedJsonException;
 import com.typesafe.config.*;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Wrapper of {@link Gson}.<br/>
  * Provides some useful method for convert objects to hocon files, and vice versa.<br/>
- * JHocon instances are thread-safe, because {@link Gson} is thread is thread-safe.<br/>
+ * JHocon instances are thread-safe, because {@link Gson} is thread-safe, and registries of field handlers
+ * are immutable after {@link JHoconBuilder#create()}.<br/>
  */
 public final class JHocon {
     public final Gson gson;
     private final ConfigRenderOptions renderOptions;
     private final ConfigResolveOptions resolveOptions;
+    private final JHoconParseCache parseCache;
+    private final JHoconPool pool;
+    private final JHoconPrewarm prewarmReport;
 
-    public JHocon(Gson gson, ConfigResolveOptions resolveOptions, boolean withComments) {
+    JHocon(Gson gson, ConfigResolveOptions resolveOptions, boolean withComments,
+           JHoconParseCache parseCache, boolean pooling, JHoconPrewarm prewarmReport) {
         this.gson = gson;
         this.resolveOptions = resolveOptions;
+        this.parseCache = parseCache;
+        this.pool = pooling ? new JHoconPool(withComments) : null;
+        this.prewarmReport = prewarmReport;
         renderOptions = ConfigRenderOptions.defaults().setJson(false).setOriginComments(withComments);
     }
 
+    public JHocon(Gson gson, ConfigResolveOptions resolveOptions, boolean withComments) {
+        this(gson, resolveOptions, withComments, null, false, null);
+    }
+
     public JHocon(Gson gson) {
         this(gson, ConfigResolveOptions.defaults(), false);
     }
 
+    /**
+     * @return result of warm-up of types, registered by {@link JHoconBuilder#prewarm(Type...)},
+     * or null, if no types were registered
+     */
+    public JHoconPrewarm getPrewarmReport() {
+        return prewarmReport;
+    }
+
     /**
      * Converts generic object to object tree representation.<br/>
      * Analog of {@link Gson#toJson(Object, Type)}.
@@ -44,9 +82,18 @@ public final class JHocon {
      * @throws JsonIOException if there was a problem writing to the writer
      */
     public Object toObjectTree(Object src, Type typeOfSrc) throws JsonIOException {
-        JHoconWriter writer = new JHoconWriter(renderOptions.getOriginComments());
-        gson.toJson(src, typeOfSrc, writer);
-        return writer.output();
+        if (pool == null) {
+            JHoconWriter writer = new JHoconWriter(renderOptions.getOriginComments());
+            gson.toJson(src, typeOfSrc, writer);
+            return writer.output();
+        }
+        JHoconWriter writer = pool.acquireWriter();
+        try {
+            gson.toJson(src, typeOfSrc, writer);
+            return writer.output();
+        } finally {
+            pool.releaseWriter(writer);
+        }
     }
 
     /**
@@ -174,6 +221,44 @@ public final class JHocon {
         return toHocon(name, obj, obj.getClass());
     }
 
+    /**
+     * Writes generic object as HOCON representation with specific {@code name} directly to {@code writer}.<br/>
+     * Unlike {@link #toHocon(String, Object, Type)}, no intermediate {@link Config} is created,
+     * so output is produced in one pass. Keys are written in fields order.<br/>
+     * Analog of {@link Gson#toJson(Object, Type, Appendable)}.
+     *
+     * @param name      the name of hocon object
+     * @param src       the generic object for which HOCON representation is to be created
+     * @param typeOfSrc the specific genericized type of {@code src}
+     * @param writer    the output, it is not closed by this method
+     * @throws JsonIOException if there was a problem writing to the writer
+     */
+    public void toHocon(String name, Object src, Type typeOfSrc, Appendable writer) throws JsonIOException {
+        JHoconTextWriter out = new JHoconTextWriter(writer, renderOptions.getOriginComments());
+        out.name(name);
+        gson.toJson(src, typeOfSrc, out);
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Writes non-generic object as HOCON representation with specific {@code name} directly to {@code writer}.<br/>
+     * Analog of {@link Gson#toJson(Object, Appendable)}.
+     *
+     * @param name   the name of hocon object
+     * @param src    the non-generic object for which HOCON representation is to be created
+     * @param writer the output, it is not closed by this method
+     * @throws JsonIOException if there was a problem writing to the writer
+     * @see #toHocon(String, Object, Type, Appendable)
+     */
+    public void toHocon(String name, Object src, Appendable writer) throws JsonIOException {
+        Object obj = safeObject(src);
+        toHocon(name, obj, obj.getClass(), writer);
+    }
+
     /**
      * Create generic object from {@link ConfigValue} representation.<br/>
      * Analog of {@link Gson#fromJson(Reader, Type)}.
@@ -186,8 +271,7 @@ public final class JHocon {
      * @throws JsonSyntaxException if {@link ConfigValue} is not a valid representation for an object of type
      */
     public <T> T fromHocon(ConfigValue configValue, Type typeOfT) throws JsonIOException, JsonSyntaxException {
-        JHoconReader reader = new JHoconReader(configValue.unwrapped());
-        return gson.fromJson(reader, typeOfT);
+        return fromHocon(configValue, typeOfT, PathSelector.ALL);
     }
 
     /**
@@ -206,6 +290,189 @@ public final class JHocon {
         return Primitives.wrap(classOfT).cast(object);
     }
 
+    /**
+     * Create generic object only from selected paths of {@link ConfigValue} representation.<br/>
+     * Keys, which aren't selected, are skipped without visiting their values,
+     * so fields bound to them keep default values.
+     *
+     * @param <T>         the type of the desired object
+     * @param configValue the hocon parsed value
+     * @param typeOfT     The specific genericized type of {@code src}
+     * @param selector    the selector of paths, for example {@code PathSelector.of("db.pool.size", "cache.*")}
+     * @return an object of type T
+     * @throws JsonIOException     if there was a problem reading from {@link ConfigValue}
+     * @throws JsonSyntaxException if {@link ConfigValue} is not a valid representation for an object of type
+     */
+    public <T> T fromHocon(ConfigValue configValue, Type typeOfT, PathSelector selector)
+        throws JsonIOException, JsonSyntaxException {
+        if (pool == null) {
+            return gson.fromJson(new JHoconReader(configValue, selector), typeOfT);
+        }
+        JHoconReader reader = pool.acquireReader(configValue, selector);
+        try {
+            return gson.fromJson(reader, typeOfT);
+        } finally {
+            pool.releaseReader(reader);
+        }
+    }
+
+    /**
+     * Create non-generic object only from selected paths of {@link ConfigValue} representation.
+     *
+     * @param <T>         the type of the desired object
+     * @param configValue the hocon parsed value
+     * @param classOfT    the class of T
+     * @param selector    the selector of paths
+     * @return an object of type T
+     * @throws JsonIOException     if there was a problem reading from {@link ConfigValue}
+     * @throws JsonSyntaxException if {@link ConfigValue} is not a valid representation for an object of type
+     * @see #fromHocon(ConfigValue, Type, PathSelector)
+     */
+    public <T> T fromHocon(ConfigValue configValue, Class<T> classOfT, PathSelector selector)
+        throws JsonIOException, JsonSyntaxException {
+        T object = fromHocon(configValue, (Type) classOfT, selector);
+        return Primitives.wrap(classOfT).cast(object);
+    }
+
+    /**
+     * Create object from nested {@link ConfigValue}, so paths in validation messages start with {@code path}.
+     */
+    <T> T fromHoconAt(ConfigValue configValue, Type typeOfT, String path) throws JsonIOException, JsonSyntaxException {
+        JHoconReader reader = new JHoconReader(configValue);
+        reader.setPathPrefix(path);
+        return gson.fromJson(reader, typeOfT);
+    }
+
+    /**
+     * Create non-generic object only from selected paths of HOCON representation with specific {@code name}.
+     *
+     * @param <T>      the type of the desired object
+     * @param hocon    the hocon string
+     * @param name     the name of hocon object
+     * @param classOfT the class of T
+     * @param selector the selector of paths, relative to {@code name}
+     * @return an object of type T
+     * @throws JsonSyntaxException if hocon string is not a valid representation for an object of type
+     * @see #fromHocon(ConfigValue, Type, PathSelector)
+     */
+    public <T> T fromHocon(String hocon, String name, Class<T> classOfT, PathSelector selector)
+        throws JsonSyntaxException {
+        ConfigValue config;
+        try {
+            config = parse(hocon).getValue(name);
+        } catch (Exception e) {
+            throw new JsonSyntaxException(e);
+        }
+        return fromHocon(config, classOfT, selector);
+    }
+
+    /**
+     * Create generic object from {@link ConfigValue} representation and collect all validation failures.<br/>
+     * Unlike {@link #fromHocon(ConfigValue, Type)}, invalid values don't throw
+     * {@link com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerValidator.Exception} and aren't logged,
+     * so the whole config is validated in one pass.
+     * Path of invalid value is built only on failure.
+     *
+     * @param <T>         the type of the desired object
+     * @param configValue the hocon parsed value
+     * @param typeOfT     The specific genericized type of {@code src}
+     * @return read object with all validation failures
+     * @throws JsonIOException     if there was a problem reading from {@link ConfigValue}
+     * @throws JsonSyntaxException if {@link ConfigValue} is not a valid representation for an object of type
+     */
+    public <T> JHoconValidated<T> fromHoconValidated(ConfigValue configValue, Type typeOfT)
+        throws JsonIOException, JsonSyntaxException {
+        List<ValidationFailure> failures = new ArrayList<>();
+        JHoconReader reader = new JHoconReader(configValue);
+        reader.setFailures(failures);
+        T value = gson.fromJson(reader, typeOfT);
+        return new JHoconValidated<>(value, failures);
+    }
+
+    /**
+     * Create non-generic object from {@link ConfigValue} representation and collect all validation failures.
+     *
+     * @param <T>         the type of the desired object
+     * @param configValue the hocon parsed value
+     * @param classOfT    the class of T
+     * @return read object with all validation failures
+     * @throws JsonIOException     if there was a problem reading from {@link ConfigValue}
+     * @throws JsonSyntaxException if {@link ConfigValue} is not a valid representation for an object of type
+     * @see #fromHoconValidated(ConfigValue, Type)
+     */
+    public <T> JHoconValidated<T> fromHoconValidated(ConfigValue configValue, Class<T> classOfT)
+        throws JsonIOException, JsonSyntaxException {
+        JHoconValidated<T> result = fromHoconValidated(configValue, (Type) classOfT);
+        Primitives.wrap(classOfT).cast(result.value);
+        return result;
+    }
+
+    /**
+     * Create non-generic object from HOCON representation with specific {@code name}
+     * and collect all validation failures.
+     *
+     * @param <T>      the type of the desired object
+     * @param hocon    the hocon string
+     * @param name     the name of hocon object
+     * @param classOfT the class of T
+     * @return read object with all validation failures
+     * @throws JsonSyntaxException if hocon string is not a valid representation for an object of type
+     * @see #fromHoconValidated(ConfigValue, Type)
+     */
+    public <T> JHoconValidated<T> fromHoconValidated(String hocon, String name, Class<T> classOfT)
+        throws JsonSyntaxException {
+        ConfigValue config;
+        try {
+            config = parse(hocon).getValue(name);
+        } catch (Exception e) {
+            throw new JsonSyntaxException(e);
+        }
+        return fromHoconValidated(config, classOfT);
+    }
+
+    /**
+     * Create lazy view of {@link ConfigValue} representation as interface.<br/>
+     * Unlike {@link #fromHocon(ConfigValue, Class)}, nothing is bound until getter is called.
+     * Each getter binds its value on the first call and caches it.
+     * Nested interfaces, lists and string-keyed maps of them are lazy views too.<br/>
+     * Getter {@code getName()}, {@code isName()} or {@code name()} is bound to key {@code name},
+     * or to value of {@link com.google.gson.annotations.SerializedName} above it.
+     * Missing values are returned as null.
+     *
+     * @param <T>         the interface type of the desired object
+     * @param configValue the hocon parsed object
+     * @param classOfT    the interface
+     * @return lazy view of {@code configValue}
+     * @throws JsonSyntaxException if {@link ConfigValue} is not an object
+     */
+    public <T> T fromHoconLazy(ConfigValue configValue, Class<T> classOfT) throws JsonSyntaxException {
+        if (!classOfT.isInterface()) {
+            throw new IllegalArgumentException(classOfT.getName() + " is not an interface");
+        }
+        return JHoconLazyHandler.create(this, classOfT, configValue);
+    }
+
+    /**
+     * Create lazy view of HOCON representation with specific {@code name} as interface.
+     *
+     * @param <T>      the interface type of the desired object
+     * @param hocon    the hocon string
+     * @param name     the name of hocon object
+     * @param classOfT the interface
+     * @return lazy view of hocon object
+     * @throws JsonSyntaxException if hocon string is not a valid hocon object
+     * @see #fromHoconLazy(ConfigValue, Class)
+     */
+    public <T> T fromHoconLazy(String hocon, String name, Class<T> classOfT) throws JsonSyntaxException {
+        ConfigValue config;
+        try {
+            config = parse(hocon).getValue(name);
+        } catch (Exception e) {
+            throw new JsonSyntaxException(e);
+        }
+        return fromHoconLazy(config, classOfT);
+    }
+
     /**
      * Create generic object from HOCON representation with specific {@code name}.<br/>
      * Analog of {@link Gson#fromJson(String, Type)}.
@@ -221,7 +488,7 @@ public final class JHocon {
     public <T> T fromHocon(String hocon, String name, Type typeOfT) throws JsonSyntaxException {
         ConfigValue config;
         try {
-            config = ConfigFactory.parseString(hocon).resolve(resolveOptions).getValue(name);
+            config = parse(hocon).getValue(name);
         } catch (Exception e) {
             throw new JsonSyntaxException(e);
         }
@@ -246,6 +513,305 @@ public final class JHocon {
         return Primitives.wrap(classOfT).cast(object);
     }
 
+    /**
+     * Updates {@code previous} object to match new {@link ConfigValue} representation.<br/>
+     * {@code previousValue}, from which {@code previous} was created, is compared with {@code configValue}
+     * and only fields, whose values are changed, are read again. {@code previous} is never modified:
+     * objects created by {@link JHReflectTypeAdapterFactory} on changed branches are copied and changed fields
+     * are read into copies, so unchanged nested objects keep their identity and are shared by both objects.
+     * Other objects and objects with removed fields are created again.
+     * If reading fails, for example by validator, nothing is published.
+     *
+     * @param <T>           the type of the desired object
+     * @param previous      the object, created from {@code previousValue}
+     * @param previousValue the previous hocon parsed value
+     * @param configValue   the new hocon parsed value
+     * @param typeOfT       the specific genericized type of {@code previous}
+     * @return updated object and paths of changed values
+     * @throws JsonIOException     if there was a problem reading from {@link ConfigValue}
+     * @throws JsonSyntaxException if {@link ConfigValue} is not a valid representation for an object of type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JHoconReload<T> reload(T previous, ConfigValue previousValue, ConfigValue configValue, Type typeOfT)
+        throws JsonIOException, JsonSyntaxException {
+        TypeAdapter<T> adapter = (TypeAdapter<T>) gson.getAdapter(TypeToken.get(typeOfT));
+        List<String> changed = new ArrayList<>();
+        if (canRebind(previous, adapter, previousValue, configValue)) {
+            Object value = rebind(previous, adapter, previousValue, configValue, new ArrayList<>(), changed);
+            if (value != null) {
+                return new JHoconReload<>((T) value, changed);
+            }
+            changed.clear();
+        } else if (isSame(previousValue, configValue)) {
+            return new JHoconReload<>(previous, changed);
+        }
+        changed.add("");
+        return new JHoconReload<>(fromHocon(configValue, typeOfT), changed);
+    }
+
+    /**
+     * Reads changed fields of {@code target} into its copy. Nested objects are compared by their fields,
+     * so every value is compared once.
+     *
+     * @return {@code target}, if nothing is changed, its updated copy or null, if it can't be updated
+     */
+    @SuppressWarnings("unchecked")
+    private Object rebind(Object target, TypeAdapter<?> adapter, ConfigValue previousValue, ConfigValue configValue,
+                          List<String> path, List<String> changed) {
+        ReflectiveTypeAdapterFactoryEx.Adapter<Object> reflective = (ReflectiveTypeAdapterFactoryEx.Adapter<Object>) adapter;
+        ConfigObject previousObject = (ConfigObject) previousValue;
+        ConfigObject object = (ConfigObject) configValue;
+        Set<String> names = reflective.getFieldNames();
+        for (String name : names) {
+            if (!isNull(previousObject.get(name)) && !object.containsKey(name)) {
+                return null; // removed field gets default value only in new object
+            }
+        }
+
+        Object copy = null;
+        for (String name : names) {
+            ConfigValue previousField = previousObject.get(name);
+            ConfigValue field = object.get(name);
+            if (previousField == field) {
+                continue;
+            }
+            Object fieldValue = reflective.getFieldValue(target, name);
+            TypeAdapter<?> fieldAdapter = reflective.getFieldAdapter(name);
+            Object updated = null;
+            int mark = changed.size();
+            path.add(name);
+            if (canRebind(fieldValue, fieldAdapter, previousField, field)) {
+                updated = rebind(fieldValue, fieldAdapter, previousField, field, path, changed);
+                if (updated == null) {
+                    changed.subList(mark, changed.size()).clear();
+                }
+            } else if (isSame(previousField, field)) {
+                updated = fieldValue;
+            }
+            if (updated != fieldValue) {
+                if (copy == null && (copy = reflective.copy(target)) == null) {
+                    path.remove(path.size() - 1);
+                    return null;
+                }
+                if (updated != null) {
+                    reflective.setFieldValue(copy, name, updated);
+                } else {
+                    changed.add(ConfigUtil.joinPath(path));
+                    JHoconReader reader = new JHoconReader(field);
+                    reader.setPathPrefix("." + String.join(".", path));
+                    try {
+                        reflective.readFieldValue(reader, copy, name);
+                    } catch (IOException e) {
+                        throw new JsonIOException(e);
+                    }
+                }
+            }
+            path.remove(path.size() - 1);
+        }
+        return copy != null ? copy : target;
+    }
+
+    private static boolean canRebind(Object target, TypeAdapter<?> adapter, ConfigValue previousValue,
+                                     ConfigValue configValue) {
+        return target != null && adapter instanceof ReflectiveTypeAdapterFactoryEx.Adapter
+            && isObject(previousValue) && isObject(configValue);
+    }
+
+    private static boolean isObject(ConfigValue value) {
+        return value != null && value.valueType() == ConfigValueType.OBJECT;
+    }
+
+    private static boolean isNull(ConfigValue value) {
+        return value == null || value.valueType() == ConfigValueType.NULL;
+    }
+
+    private static boolean isSame(ConfigValue previous, ConfigValue value) {
+        return (isNull(previous) && isNull(value)) || (previous != null && previous.equals(value));
+    }
+
+    /**
+     * Create several objects from one HOCON representation. The hocon string is parsed and resolved only once.
+     *
+     * @param hocon        the hocon string
+     * @param typesOfPaths the specific genericized types of objects by their paths
+     * @return objects by their paths, in iteration order of {@code typesOfPaths}
+     * @throws JsonIOException     if there was a problem reading from hocon string
+     * @throws JsonSyntaxException if hocon string is not a valid representation for an object of type
+     */
+    public Map<String, Object> fromHocon(String hocon, Map<String, ? extends Type> typesOfPaths)
+        throws JsonSyntaxException {
+        return fromHocon(hocon, typesOfPaths, Runnable::run);
+    }
+
+    /**
+     * Create several objects from one HOCON representation. The hocon string is parsed and resolved only once,
+     * then objects are created in parallel by {@code executor}.
+     *
+     * @param hocon        the hocon string
+     * @param typesOfPaths the specific genericized types of objects by their paths
+     * @param executor     the executor for creating objects
+     * @return objects by their paths, in iteration order of {@code typesOfPaths}
+     * @throws JsonIOException     if there was a problem reading from hocon string
+     * @throws JsonSyntaxException if hocon string is not a valid representation for an object of type
+     */
+    public Map<String, Object> fromHocon(String hocon, Map<String, ? extends Type> typesOfPaths, Executor executor)
+        throws JsonSyntaxException {
+        Config config;
+        try {
+            config = parse(hocon);
+        } catch (Exception e) {
+            throw new JsonSyntaxException(e);
+        }
+
+        Map<String, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+        for (Map.Entry<String, ? extends Type> it : typesOfPaths.entrySet()) {
+            String path = it.getKey();
+            Type type = it.getValue();
+            futures.put(path, CompletableFuture.supplyAsync(() -> {
+                ConfigValue value;
+                try {
+                    value = config.getValue(path);
+                } catch (Exception e) {
+                    throw new JsonSyntaxException(e);
+                }
+                return fromHocon(value, type);
+            }, executor));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<Object>> it : futures.entrySet()) {
+            try {
+                result.put(it.getKey(), it.getValue().join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new JsonIOException(cause);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Create generic object from HOCON file with specific {@code name}.<br/>
+     * The file is memory-mapped and decoded incrementally into the parser (see {@link MappedFileReader}),
+     * so its text is never copied to heap. Includes are resolved relative to the file.
+     *
+     * @param <T>     the type of the desired object
+     * @param file    the UTF-8 hocon file
+     * @param name    the name of hocon object
+     * @param typeOfT The specific genericized type of {@code src}
+     * @return an object of type T
+     * @throws JsonIOException     if there was a problem reading from file
+     * @throws JsonSyntaxException if hocon file is not a valid representation for an object of type
+     */
+    public <T> T fromHocon(Path file, String name, Type typeOfT) throws JsonIOException, JsonSyntaxException {
+        ConfigParseOptions options = ConfigParseOptions.defaults()
+            .setOriginDescription(file.toString())
+            .setIncluder(new RelativeFileIncluder(file.toAbsolutePath().getParent(), null));
+        if (file.getFileName().toString().endsWith(".json")) {
+            options = options.setSyntax(ConfigSyntax.JSON);
+        }
+
+        ConfigValue config;
+        try (Reader reader = new MappedFileReader(file)) {
+            config = ConfigFactory.parseReader(reader, options).resolve(resolveOptions).getValue(name);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        } catch (Exception e) {
+            throw new JsonSyntaxException(e);
+        }
+
+        return fromHocon(config, typeOfT);
+    }
+
+    /**
+     * Create non-generic object from HOCON file with specific {@code name}.<br/>
+     * Analog of {@link Gson#fromJson(Reader, Class)}.
+     *
+     * @param <T>      the type of the desired object
+     * @param file     the UTF-8 hocon file
+     * @param name     the name of hocon object
+     * @param classOfT the class of T
+     * @return an object of type T
+     * @throws JsonIOException     if there was a problem reading from file
+     * @throws JsonSyntaxException if hocon file is not a valid representation for an object of type
+     * @see #fromHocon(Path, String, Type)
+     */
+    public <T> T fromHocon(Path file, String name, Class<T> classOfT) throws JsonIOException, JsonSyntaxException {
+        T object = fromHocon(file, name, (Type) classOfT);
+        return Primitives.wrap(classOfT).cast(object);
+    }
+
+    /**
+     * Create generic object from HOCON representation with specific {@code path}, read from {@code reader}.<br/>
+     * Unlike {@link #fromHocon(String, String, Type)}, the text is tokenized on demand
+     * without creating {@link Config} tree, so only substitution-free documents without includes
+     * and duplicated keys are supported (see {@link JHoconStreamReader}).
+     * Only the value at {@code path} is bound, the rest of the text is tokenized
+     * to reject keys, which would override or merge it.<br/>
+     * Analog of {@link Gson#fromJson(Reader, Type)}.
+     *
+     * @param <T>     the type of the desired object
+     * @param reader  the reader producing hocon text, it is not closed by this method
+     * @param path    the path of hocon object, {@code null} for root object
+     * @param typeOfT The specific genericized type of {@code src}
+     * @return an object of type T
+     * @throws JsonIOException     if there was a problem reading from {@code reader}
+     * @throws JsonSyntaxException if hocon is not a valid representation for an object of type
+     *                             or it uses unsupported features
+     */
+    public <T> T fromHocon(Reader reader, String path, Type typeOfT) throws JsonIOException, JsonSyntaxException {
+        JHoconStreamReader in = new JHoconStreamReader(reader);
+        try {
+            in.select(path);
+            T object = gson.fromJson(in, typeOfT);
+            in.readToEnd();
+            return object;
+        } catch (MalformedJsonException | IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Create non-generic object from HOCON representation with specific {@code path}, read from {@code reader}.<br/>
+     * Analog of {@link Gson#fromJson(Reader, Class)}.
+     *
+     * @param <T>      the type of the desired object
+     * @param reader   the reader producing hocon text, it is not closed by this method
+     * @param path     the path of hocon object, {@code null} for root object
+     * @param classOfT the class of T
+     * @return an object of type T
+     * @throws JsonIOException     if there was a problem reading from {@code reader}
+     * @throws JsonSyntaxException if hocon is not a valid representation for an object of type
+     *                             or it uses unsupported features
+     * @see #fromHocon(Reader, String, Type)
+     */
+    public <T> T fromHocon(Reader reader, String path, Class<T> classOfT) throws JsonIOException, JsonSyntaxException {
+        T object = fromHocon(reader, path, (Type) classOfT);
+        return Primitives.wrap(classOfT).cast(object);
+    }
+
+    ConfigResolveOptions getResolveOptions() {
+        return resolveOptions;
+    }
+
+    /**
+     * Parses and resolves {@code hocon}, using parse cache if it is enabled.
+     */
+    private Config parse(String hocon) {
+        if (parseCache != null) {
+            return parseCache.get(hocon, it -> ConfigFactory.parseString(it).resolve(resolveOptions));
+        }
+        return ConfigFactory.parseString(hocon).resolve(resolveOptions);
+    }
+
     private static Object safeObject(Object obj) {
         return obj != null ? obj : JsonNull.INSTANCE;
     }
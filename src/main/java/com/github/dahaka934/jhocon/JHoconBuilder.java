@@ -7,9 +7,17 @@ import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidator;
 import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorCustomAnnotation;
 import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorList;
 import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorRange;
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.typesafe.config.ConfigResolveOptions;
 
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Builder for construct instance of {@link JHocon}.
  */
@@ -17,9 +25,23 @@ public final class JHoconBuilder {
     public final GsonBuilder gsonBuilder;
     private JHReflectTypeAdapterFactory customReflectFactory;
     private FieldHandlerValidator handlerValidator;
+    private JHParallelCollectionTypeAdapterFactory parallelFactory;
     private ConfigResolveOptions resolveOptions;
     private boolean withComment = false;
+    private boolean withPooling = false;
+    private final List<Type> prewarmTypes = new ArrayList<>();
+    private ForkJoinPool prewarmPool;
+    private int parseCacheDocuments = 0;
+    private long parseCacheWeight = 0;
+    private boolean primitiveArraysRegistered = false;
+    // applied to handlers by create()
+    private Boolean throwErrorOnFail;
+    private boolean useMethodHandles = false;
+    private boolean fieldDrivenReading = false;
 
+    /**
+     * {@link JHPrimitiveArrayTypeAdapterFactory} is registered in {@code gsonBuilder} once by {@link #create()}.
+     */
     public JHoconBuilder(GsonBuilder gsonBuilder) {
         this.gsonBuilder = gsonBuilder;
     }
@@ -62,7 +84,8 @@ public final class JHoconBuilder {
      * Throw exception on validation fail or print message to log. True by default.
      */
     public JHoconBuilder throwErrorOnValidationFail(Boolean value) {
-        getFieldHandlerValidator().throwErrorOnFail = value;
+        getFieldHandlerValidator();
+        throwErrorOnFail = value;
         return this;
     }
 
@@ -89,6 +112,134 @@ public final class JHoconBuilder {
         return this;
     }
 
+    /**
+     * Access fields via method handles instead of reflection.
+     * Primitive int, long, double and boolean fields without handlers are converted without boxing.<br/>
+     * This method register default reflective type adapter factory, if its not present.
+     */
+    public JHoconBuilder withMethodHandleAccessors() {
+        getReflectFactory();
+        useMethodHandles = true;
+        return this;
+    }
+
+    /**
+     * Read objects from {@link com.typesafe.config.ConfigValue} by fields instead of keys:
+     * each field name is looked up directly, so unknown keys cost nothing.
+     * Reading of wide object is proportional to number of fields, not keys.<br/>
+     * This method register default reflective type adapter factory, if its not present.
+     */
+    public JHoconBuilder withFieldDrivenReading() {
+        getReflectFactory();
+        fieldDrivenReading = true;
+        return this;
+    }
+
+    /**
+     * Use type adapters, generated by jhocon-processor for classes annotated with
+     * {@link com.github.dahaka934.jhocon.annotations.GenerateAdapter}, instead of reflective adapters.
+     * Generated factories are loaded by {@link ServiceLoader} from context class loader.
+     * Classes with generated adapters are converted without reflective analysis of their fields.<br/>
+     * This method register default reflective type adapter factory, if its not present.
+     *
+     * @see JHGeneratedTypeAdapterFactory
+     */
+    public JHoconBuilder withGeneratedAdapters() {
+        JHReflectTypeAdapterFactory factory = getReflectFactory();
+        for (JHGeneratedTypeAdapterFactory it : ServiceLoader.load(JHGeneratedTypeAdapterFactory.class)) {
+            factory.registerGenerated(it);
+        }
+        return this;
+    }
+
+    /**
+     * Reuse thread-local readers and writers with their frames for conversion
+     * between objects and {@link com.typesafe.config.ConfigValue}, instead of allocating them for each call.
+     */
+    public JHoconBuilder withPooling() {
+        withPooling = true;
+        return this;
+    }
+
+    /**
+     * Read and write collections and maps with string keys, which have at least {@code threshold} elements,
+     * in parallel in {@link ForkJoinPool#commonPool()}.
+     *
+     * @see JHParallelCollectionTypeAdapterFactory
+     */
+    public JHoconBuilder withParallelReading(int threshold) {
+        return withParallelReading(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Read and write collections and maps with string keys, which have at least {@code threshold} elements,
+     * in parallel in specific {@code pool}. Supported only once.
+     *
+     * @see JHParallelCollectionTypeAdapterFactory
+     */
+    public JHoconBuilder withParallelReading(int threshold, ForkJoinPool pool) {
+        if (parallelFactory != null) {
+            throw new RuntimeException("parallel reading is already enabled");
+        }
+        parallelFactory = new JHParallelCollectionTypeAdapterFactory(threshold, pool);
+        gsonBuilder.registerTypeAdapterFactory(parallelFactory);
+        return this;
+    }
+
+    /**
+     * Enable cache of parsed and resolved HOCON documents for {@link JHocon#fromHocon(String, String, Type)},
+     * so several objects can be extracted from one document with only one parsing.
+     * Documents are keyed by digest of their text.
+     *
+     * @param maxDocuments maximum number of cached documents
+     * @param maxWeight    maximum total length of cached documents,
+     *                     longer documents are not cached
+     */
+    public JHoconBuilder withParseCache(int maxDocuments, long maxWeight) {
+        if (maxDocuments <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException("cache limits must be positive");
+        }
+        parseCacheDocuments = maxDocuments;
+        parseCacheWeight = maxWeight;
+        return this;
+    }
+
+    /**
+     * Enable cache of parsed and resolved HOCON documents without weight limit.
+     *
+     * @see #withParseCache(int, long)
+     */
+    public JHoconBuilder withParseCache(int maxDocuments) {
+        return withParseCache(maxDocuments, Long.MAX_VALUE);
+    }
+
+    /**
+     * Create type adapters of {@code types} eagerly in {@link #create()}, including adapters of their fields
+     * and reflective binding of fields, so the first conversion of these types is not slower than next ones.
+     * Time of creation of each adapter is reported by {@link JHocon#getPrewarmReport()}.
+     * Exceptions of adapters creation are thrown by {@link #create()}.
+     */
+    public JHoconBuilder prewarm(Type... types) {
+        prewarmTypes.addAll(Arrays.asList(types));
+        return this;
+    }
+
+    /**
+     * Create type adapters, registered by {@link #prewarm(Type...)}, in parallel in
+     * {@link ForkJoinPool#commonPool()}.
+     */
+    public JHoconBuilder withParallelPrewarm() {
+        return withParallelPrewarm(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create type adapters, registered by {@link #prewarm(Type...)}, in parallel in specific {@code pool}.
+     */
+    public JHoconBuilder withParallelPrewarm(ForkJoinPool pool) {
+        prewarmPool = pool;
+        return this;
+    }
+
     /**
      * Setting custom resolve options
      */
@@ -97,9 +248,35 @@ public final class JHoconBuilder {
         return this;
     }
 
+    /**
+     * Creates {@link JHocon}. After that field handlers, validators and generated adapters can't be registered,
+     * and their settings can't be changed.
+     */
     public JHocon create() {
         ConfigResolveOptions opts = resolveOptions != null ? resolveOptions : ConfigResolveOptions.defaults();
-        return new JHocon(gsonBuilder.create(), opts, withComment);
+        JHoconParseCache parseCache = parseCacheDocuments > 0
+            ? new JHoconParseCache(parseCacheDocuments, parseCacheWeight) : null;
+        if (customReflectFactory != null) {
+            if (throwErrorOnFail != null) {
+                handlerValidator.setThrowErrorOnFail(throwErrorOnFail);
+            }
+            if (useMethodHandles) {
+                customReflectFactory.setUseMethodHandles(true);
+            }
+            if (fieldDrivenReading) {
+                customReflectFactory.setFieldDrivenReading(true);
+            }
+            // registries and settings are read by all threads, which use created instance
+            customReflectFactory.freeze();
+        }
+        if (!primitiveArraysRegistered) {
+            primitiveArraysRegistered = true;
+            gsonBuilder.registerTypeAdapterFactory(new JHPrimitiveArrayTypeAdapterFactory());
+        }
+        Gson gson = gsonBuilder.create();
+        JHoconPrewarm prewarmReport = !prewarmTypes.isEmpty()
+            ? JHoconPrewarm.run(gson, new ArrayList<>(prewarmTypes), prewarmPool) : null;
+        return new JHocon(gson, opts, withComment, parseCache, withPooling, prewarmReport);
     }
 
     private JHReflectTypeAdapterFactory getReflectFactory() {
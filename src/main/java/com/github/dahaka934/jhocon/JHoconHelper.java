@@ -1,6 +1,6 @@
 package com.github.dahaka934.jhocon;
 
-import com.github.dahaka934.jhocon.writer.JHoconWriter;
+import com.github.dahaka934.jhocon.writer.JHoconBaseWriter;
 import com.google.gson.stream.JsonWriter;
 
 import java.util.Arrays;
@@ -14,11 +14,18 @@ public final class JHoconHelper {
      * Safe hook for insert comment to writer.
      */
     public static void comment(JsonWriter writer, String comment) {
-        if (writer instanceof JHoconWriter) {
-            ((JHoconWriter) writer).comment(comment);
+        if (writer instanceof JHoconBaseWriter) {
+            ((JHoconBaseWriter) writer).comment(comment);
         }
     }
 
+    /**
+     * @return true, if comments are written by {@code writer}
+     */
+    public static boolean isWithComments(JsonWriter writer) {
+        return writer instanceof JHoconBaseWriter && ((JHoconBaseWriter) writer).isWithComments();
+    }
+
     /**
      * Convert object to string.
      */
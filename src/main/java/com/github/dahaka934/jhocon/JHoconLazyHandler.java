@@ -0,0 +1,197 @@
+package com.github.dahaka934.jhocon;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.internal.$Gson$Types;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactory;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactoryEx;
+import com.google.gson.reflect.TypeToken;
+import com.typesafe.config.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lazy view of {@link ConfigObject} as interface.<br/>
+ * Each getter binds its value only on the first call and caches it.
+ * Values of nested interfaces, lists and string-keyed maps of them are lazy views too.<br/>
+ * Getter {@code getName()}, {@code isName()} or {@code name()} is bound to key {@code name},
+ * {@link SerializedName} on getter overrides it.
+ * Default methods of interface are called as is, and their results aren't cached.<br/>
+ * Values are bound with their paths in parent object, so validation messages contain full paths.
+ */
+final class JHoconLazyHandler implements InvocationHandler {
+    private static final Object NULL = new Object();
+    private static final Map<Method, MethodHandle> DEFAULT_METHODS = new ConcurrentHashMap<>();
+
+    private final JHocon jhocon;
+    private final Class<?> type;
+    private final ConfigObject object;
+    private final String path;
+    private final Map<Method, Object> values = new ConcurrentHashMap<>();
+
+    private JHoconLazyHandler(JHocon jhocon, Class<?> type, ConfigObject object, String path) {
+        this.jhocon = jhocon;
+        this.type = type;
+        this.object = object;
+        this.path = path;
+    }
+
+    /**
+     * @return true, if {@code type} is interface without custom type adapter
+     */
+    static boolean isLazy(JHocon jhocon, Type type) {
+        Class<?> raw = $Gson$Types.getRawType(type);
+        if (!raw.isInterface() || raw.getName().startsWith("java.")) {
+            return false;
+        }
+        TypeAdapter<?> adapter = jhocon.gson.getAdapter(TypeToken.get(type));
+        return adapter instanceof ReflectiveTypeAdapterFactory.Adapter
+            || adapter instanceof ReflectiveTypeAdapterFactoryEx.Adapter;
+    }
+
+    /**
+     * @return lazy view of {@code value} as {@code type}, or null for null value
+     */
+    static <T> T create(JHocon jhocon, Class<T> type, ConfigValue value) {
+        return create(jhocon, type, value, "");
+    }
+
+    private static <T> T create(JHocon jhocon, Class<T> type, ConfigValue value, String path) {
+        if (value == null || value.valueType() == ConfigValueType.NULL) {
+            return null;
+        }
+        if (value.valueType() != ConfigValueType.OBJECT) {
+            throw new JsonSyntaxException("Expected OBJECT for " + type.getName() + " but was " + value.valueType());
+        }
+        JHoconLazyHandler handler = new JHoconLazyHandler(jhocon, type, (ConfigObject) value, path);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return type.getSimpleName() + object.render(ConfigRenderOptions.concise());
+            }
+        }
+        if (method.isDefault()) {
+            return defaultMethod(method).bindTo(proxy).invokeWithArguments(args != null ? args : new Object[0]);
+        }
+        if (args != null && args.length > 0) {
+            throw new UnsupportedOperationException("Only getters are supported: " + method);
+        }
+
+        Object value = values.get(method);
+        if (value == null) {
+            value = bind(method);
+            Object previous = values.putIfAbsent(method, value);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+        return value != NULL ? value : null;
+    }
+
+    private Object bind(Method method) {
+        String key = keyOf(method);
+        ConfigValue value = object.get(key);
+        if (value == null || value.valueType() == ConfigValueType.NULL) {
+            if (method.getReturnType().isPrimitive()) {
+                throw new JsonSyntaxException("No value for primitive " + type.getSimpleName() + "." + key);
+            }
+            return NULL;
+        }
+        Object result = bindValue(method.getGenericReturnType(), value, path + "." + key);
+        return result != null ? result : NULL;
+    }
+
+    private Object bindValue(Type type, ConfigValue value, String path) {
+        Class<?> raw = $Gson$Types.getRawType(type);
+        if (isLazy(jhocon, type)) {
+            return create(jhocon, raw, value, path);
+        }
+        if ((raw == List.class || raw == Collection.class) && value.valueType() == ConfigValueType.LIST) {
+            Type elementType = $Gson$Types.getCollectionElementType(type, raw);
+            if (isLazy(jhocon, elementType)) {
+                Class<?> elementRaw = $Gson$Types.getRawType(elementType);
+                List<Object> list = new ArrayList<>();
+                for (ConfigValue it : (ConfigList) value) {
+                    list.add(create(jhocon, elementRaw, it, path + "[" + list.size() + "]"));
+                }
+                return Collections.unmodifiableList(list);
+            }
+        }
+        if (raw == Map.class && value.valueType() == ConfigValueType.OBJECT) {
+            Type[] keyAndValue = $Gson$Types.getMapKeyAndValueTypes(type, raw);
+            if (keyAndValue[0] == String.class && isLazy(jhocon, keyAndValue[1])) {
+                Class<?> valueRaw = $Gson$Types.getRawType(keyAndValue[1]);
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (Map.Entry<String, ConfigValue> it : ((ConfigObject) value).entrySet()) {
+                    map.put(it.getKey(), create(jhocon, valueRaw, it.getValue(), path + "." + it.getKey()));
+                }
+                return Collections.unmodifiableMap(map);
+            }
+        }
+        return jhocon.fromHoconAt(value, type, path);
+    }
+
+    /**
+     * @return handle, which calls default {@code method} bypassing proxy
+     */
+    private static MethodHandle defaultMethod(Method method) throws ReflectiveOperationException {
+        MethodHandle handle = DEFAULT_METHODS.get(method);
+        if (handle == null) {
+            Class<?> declaring = method.getDeclaringClass();
+            MethodHandles.Lookup lookup;
+            try {
+                // Java 9+
+                Method privateLookupIn = MethodHandles.class.getMethod("privateLookupIn",
+                    Class.class, MethodHandles.Lookup.class);
+                lookup = (MethodHandles.Lookup) privateLookupIn.invoke(null, declaring, MethodHandles.lookup());
+            } catch (NoSuchMethodException e) {
+                // Java 8: lookup with private access to interface is created only by private constructor
+                Constructor<MethodHandles.Lookup> constructor =
+                    MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+                constructor.setAccessible(true);
+                lookup = constructor.newInstance(declaring, MethodHandles.Lookup.PRIVATE);
+            }
+            handle = lookup.unreflectSpecial(method, declaring);
+            DEFAULT_METHODS.put(method, handle);
+        }
+        return handle;
+    }
+
+    private static String keyOf(Method method) {
+        SerializedName annotation = method.getAnnotation(SerializedName.class);
+        if (annotation != null) {
+            return annotation.value();
+        }
+        String name = method.getName();
+        if (name.length() > 3 && name.startsWith("get") && Character.isUpperCase(name.charAt(3))) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2))
+            && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            return decapitalize(name.substring(2));
+        }
+        return name;
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.dahaka934.jhocon;
+
+import com.typesafe.config.Config;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed and resolved HOCON documents, keyed by SHA-256 digest of the text.<br/>
+ * Safe for concurrent use: each document is parsed once, even if it is requested
+ * by several threads at the same time. Least recently used documents are evicted,
+ * when number of documents or their total weight (length of text) exceeds the limit.
+ */
+final class JHoconParseCache {
+    private final int maxDocuments;
+    private final long maxWeight;
+    private final Map<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong weight = new AtomicLong();
+    private final AtomicLong clock = new AtomicLong();
+
+    JHoconParseCache(int maxDocuments, long maxWeight) {
+        if (maxDocuments <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException("cache limits must be positive");
+        }
+        this.maxDocuments = maxDocuments;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * @return cached config for {@code hocon} or config created by {@code parser}
+     */
+    Config get(String hocon, Function<String, Config> parser) {
+        if (hocon.length() > maxWeight) {
+            return parser.apply(hocon);
+        }
+
+        ByteBuffer key = digest(hocon);
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry(hocon.length()));
+        entry.lastAccess = clock.incrementAndGet();
+
+        Config config = entry.config;
+        if (config == null) {
+            synchronized (entry) {
+                config = entry.config;
+                if (config == null) {
+                    try {
+                        config = parser.apply(hocon);
+                    } catch (RuntimeException e) {
+                        // failures are not cached
+                        entries.remove(key, entry);
+                        throw e;
+                    }
+                    entry.config = config;
+                    weight.addAndGet(entry.weight);
+                    evict();
+                }
+            }
+        }
+        return config;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        while (entries.size() > maxDocuments || weight.get() > maxWeight) {
+            Map.Entry<ByteBuffer, Entry> oldest = null;
+            for (Map.Entry<ByteBuffer, Entry> it : entries.entrySet()) {
+                Entry entry = it.getValue();
+                if (entry.config != null && (oldest == null || entry.lastAccess < oldest.getValue().lastAccess)) {
+                    oldest = it;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            if (entries.remove(oldest.getKey(), oldest.getValue())) {
+                weight.addAndGet(-oldest.getValue().weight);
+            }
+        }
+    }
+
+    /**
+     * Digest of UTF-16 code units, without copying whole text into byte array.
+     */
+    private static ByteBuffer digest(String text) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[8192];
+        int pos = 0;
+        for (int i = 0, length = text.length(); i < length; ++i) {
+            char c = text.charAt(i);
+            buffer[pos++] = (byte) (c >> 8);
+            buffer[pos++] = (byte) c;
+            if (pos == buffer.length) {
+                digest.update(buffer, 0, pos);
+                pos = 0;
+            }
+        }
+        digest.update(buffer, 0, pos);
+        return ByteBuffer.wrap(digest.digest());
+    }
+
+    private static final class Entry {
+        final long weight;
+        volatile Config config;
+        volatile long lastAccess;
+
+        Entry(long weight) {
+            this.weight = weight;
+        }
+    }
+}
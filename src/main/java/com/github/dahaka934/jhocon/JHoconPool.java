@@ -0,0 +1,66 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.reader.JHoconReader;
+import com.github.dahaka934.jhocon.reader.PathSelector;
+import com.github.dahaka934.jhocon.writer.JHoconWriter;
+
+/**
+ * Thread-local {@link JHoconReader} and {@link JHoconWriter}, which are reset before each use,
+ * so conversion doesn't allocate reader, writer and their frames.<br/>
+ * If instance is already used by current thread (for example, custom type adapter
+ * converts other value during conversion), new instance is created instead.
+ */
+final class JHoconPool {
+    private final ThreadLocal<Entry<JHoconReader>> readers =
+        ThreadLocal.withInitial(() -> new Entry<>(new JHoconReader(null)));
+    private final ThreadLocal<Entry<JHoconWriter>> writers;
+
+    JHoconPool(boolean withComments) {
+        writers = ThreadLocal.withInitial(() -> new Entry<>(new JHoconWriter(withComments)));
+    }
+
+    JHoconReader acquireReader(Object value, PathSelector selector) {
+        Entry<JHoconReader> entry = readers.get();
+        if (entry.inUse) {
+            return new JHoconReader(value, selector);
+        }
+        entry.inUse = true;
+        entry.instance.reset(value, selector);
+        return entry.instance;
+    }
+
+    void releaseReader(JHoconReader reader) {
+        Entry<JHoconReader> entry = readers.get();
+        if (entry.instance == reader) {
+            reader.reset(null, PathSelector.ALL); // don't keep read value
+            entry.inUse = false;
+        }
+    }
+
+    JHoconWriter acquireWriter() {
+        Entry<JHoconWriter> entry = writers.get();
+        if (entry.inUse) {
+            return new JHoconWriter(entry.instance.isWithComments());
+        }
+        entry.inUse = true;
+        entry.instance.reset();
+        return entry.instance;
+    }
+
+    void releaseWriter(JHoconWriter writer) {
+        Entry<JHoconWriter> entry = writers.get();
+        if (entry.instance == writer) {
+            writer.reset(); // don't keep output
+            entry.inUse = false;
+        }
+    }
+
+    private static final class Entry<T> {
+        final T instance;
+        boolean inUse = false;
+
+        Entry(T instance) {
+            this.instance = instance;
+        }
+    }
+}
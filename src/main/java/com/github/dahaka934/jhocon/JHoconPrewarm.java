@@ -0,0 +1,83 @@
+package com.github.dahaka934.jhocon;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Result of eager creation of type adapters by {@link JHoconBuilder#prewarm(Type...)}.
+ */
+public final class JHoconPrewarm {
+    /**
+     * Time of type adapter creation in nanoseconds by type, in order of registration.
+     * Adapters of fields are created with adapter of type, so type, which adapter
+     * was already created for previous type, takes almost no time.
+     */
+    public final Map<Type, Long> nanosByType;
+    /**
+     * Total time of warm-up in nanoseconds.
+     */
+    public final long totalNanos;
+
+    private JHoconPrewarm(Map<Type, Long> nanosByType, long totalNanos) {
+        this.nanosByType = Collections.unmodifiableMap(nanosByType);
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * Creates type adapters of {@code types}, in parallel if {@code pool} is specified.
+     *
+     * @param pool the pool for creation tasks or null
+     */
+    static JHoconPrewarm run(Gson gson, List<Type> types, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        long[] nanos = new long[types.size()];
+        if (pool == null) {
+            for (int i = 0; i < nanos.length; ++i) {
+                nanos[i] = warm(gson, types.get(i));
+            }
+        } else {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(nanos.length);
+            for (int i = 0; i < nanos.length; ++i) {
+                int index = i;
+                tasks.add(pool.submit(() -> {
+                    nanos[index] = warm(gson, types.get(index));
+                }));
+            }
+            for (ForkJoinTask<?> it : tasks) {
+                it.join();
+            }
+        }
+
+        Map<Type, Long> nanosByType = new LinkedHashMap<>();
+        for (int i = 0; i < nanos.length; ++i) {
+            nanosByType.put(types.get(i), nanos[i]);
+        }
+        return new JHoconPrewarm(nanosByType, System.nanoTime() - start);
+    }
+
+    private static long warm(Gson gson, Type type) {
+        long start = System.nanoTime();
+        gson.getAdapter(TypeToken.get(type));
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * @return total time and time of each type, slowest first
+     */
+    @Override
+    public String toString() {
+        List<Map.Entry<Type, Long>> entries = new ArrayList<>(nanosByType.entrySet());
+        entries.sort(Map.Entry.<Type, Long>comparingByValue().reversed());
+        StringBuilder b = new StringBuilder(String.format("prewarmed %d types in %.3f ms",
+            entries.size(), totalNanos / 1e6));
+        for (Map.Entry<Type, Long> it : entries) {
+            b.append(String.format("%n    %s: %.3f ms", it.getKey().getTypeName(), it.getValue() / 1e6));
+        }
+        return b.toString();
+    }
+}
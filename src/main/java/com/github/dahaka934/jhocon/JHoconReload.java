@@ -0,0 +1,29 @@
+package com.github.dahaka934.jhocon;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of {@link JHocon#reload}.
+ *
+ * @param <T> the type of reloaded object
+ */
+public final class JHoconReload<T> {
+    /**
+     * Reloaded object. It is the previous object, if nothing is changed, otherwise its updated copy or new object.
+     */
+    public final T value;
+    /**
+     * Paths of rebound values, relative to reloaded object. Empty path means whole object.
+     */
+    public final List<String> changedPaths;
+
+    JHoconReload(T value, List<String> changedPaths) {
+        this.value = value;
+        this.changedPaths = Collections.unmodifiableList(changedPaths);
+    }
+
+    public boolean isChanged() {
+        return !changedPaths.isEmpty();
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.fieldlhandler.ValidationFailure;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of {@link JHocon#fromHoconValidated}.
+ *
+ * @param <T> the type of read object
+ */
+public final class JHoconValidated<T> {
+    /**
+     * Read object. Fields with invalid values are set to null or keep default values.
+     */
+    public final T value;
+    /**
+     * All validation failures in order of reading.
+     */
+    public final List<ValidationFailure> failures;
+
+    JHoconValidated(T value, List<ValidationFailure> failures) {
+        this.value = value;
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    public boolean isValid() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * @return messages of all failures, one per line
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (ValidationFailure it : failures) {
+            sb.append(it.getMessage()).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,218 @@
+package com.github.dahaka934.jhocon;
+
+import com.typesafe.config.*;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.*;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps object, created from HOCON file, up to date.<br/>
+ * The file and all files included by it are watched via {@link WatchService}.
+ * Bursts of changes are debounced, then file is parsed and object is created on background thread.
+ * If it fails (including validation fail), previous object is kept.
+ * Current object is published via volatile field, so {@link #get()} doesn't use any locks.
+ *
+ * @param <T> the type of the object
+ */
+public final class JHoconWatcher<T> implements Closeable {
+    private final JHocon jhocon;
+    private final Path file;
+    private final String name;
+    private final Type typeOfT;
+    private final Logger logger = Logger.getLogger("JHoconWatcher");
+
+    private long debounceMillis = 200;
+    private Consumer<? super T> reloadListener = it -> { };
+    private Consumer<? super Exception> errorListener =
+        it -> logger.log(Level.WARNING, "Config reloading failed", it);
+
+    private volatile T value;
+    private WatchService watchService;
+    private Thread thread;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private Set<Path> files = new HashSet<>();
+
+    /**
+     * @param jhocon  the instance, used for creating objects
+     * @param file    the hocon file
+     * @param name    the name of hocon object
+     * @param typeOfT the specific genericized type of object
+     */
+    public JHoconWatcher(JHocon jhocon, Path file, String name, Type typeOfT) {
+        this.jhocon = jhocon;
+        this.file = file.toAbsolutePath().normalize();
+        this.name = name;
+        this.typeOfT = typeOfT;
+    }
+
+    /**
+     * Delay after last change before reloading. 200 ms by default.
+     */
+    public JHoconWatcher<T> debounce(long millis) {
+        debounceMillis = millis;
+        return this;
+    }
+
+    /**
+     * Listener, which is called on background thread after new object is published.
+     */
+    public JHoconWatcher<T> onReload(Consumer<? super T> listener) {
+        reloadListener = listener;
+        return this;
+    }
+
+    /**
+     * Listener, which is called on background thread, if reloading fails. Exception is logged by default.
+     */
+    public JHoconWatcher<T> onError(Consumer<? super Exception> listener) {
+        errorListener = listener;
+        return this;
+    }
+
+    /**
+     * Creates object from the file and starts watching.
+     *
+     * @throws IOException if watching can't be started
+     * @throws com.google.gson.JsonSyntaxException if file is not a valid representation for an object of type
+     */
+    public synchronized JHoconWatcher<T> start() throws IOException {
+        if (watchService != null) {
+            throw new IllegalStateException("Watcher is already started");
+        }
+        value = load();
+        watchService = file.getFileSystem().newWatchService();
+        register();
+        thread = new Thread(this::run, "JHoconWatcher-" + file.getFileName());
+        thread.setDaemon(true);
+        thread.start();
+        return this;
+    }
+
+    /**
+     * @return current object
+     */
+    public T get() {
+        return value;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private T load() {
+        Config config = ConfigFactory.parseFile(file.toFile()).resolve(jhocon.getResolveOptions());
+        Set<Path> files = new HashSet<>();
+        files.add(file);
+        collectFiles(config.root(), files);
+        T result = jhocon.fromHocon(config.getValue(name), typeOfT);
+        this.files = files;
+        return result;
+    }
+
+    /**
+     * Collects files of all values, so included files are watched too.
+     */
+    private static void collectFiles(ConfigValue value, Set<Path> files) {
+        // filename() of merged origin is its description, but url() is null, if files differ
+        URL url = value.origin().url();
+        if (url != null && "file".equals(url.getProtocol())) {
+            files.add(toPath(url));
+        }
+        if (value instanceof ConfigObject) {
+            for (ConfigValue it : ((ConfigObject) value).values()) {
+                collectFiles(it, files);
+            }
+        } else if (value instanceof ConfigList) {
+            for (ConfigValue it : (ConfigList) value) {
+                collectFiles(it, files);
+            }
+        }
+    }
+
+    private static Path toPath(URL url) {
+        try {
+            return Paths.get(url.toURI()).toAbsolutePath().normalize();
+        } catch (URISyntaxException e) {
+            return new File(url.getPath()).toPath().toAbsolutePath().normalize();
+        }
+    }
+
+    private void register() throws IOException {
+        Set<Path> registered = new HashSet<>(directories.values());
+        for (Path it : files) {
+            Path directory = it.getParent();
+            if (directory != null && registered.add(directory)) {
+                WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                directories.put(key, directory);
+            }
+        }
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!isChanged(watchService.take())) {
+                    continue;
+                }
+                // wait until changes are finished
+                WatchKey key;
+                while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    isChanged(key);
+                }
+                reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private boolean isChanged(WatchKey key) {
+        Path directory = directories.get(key);
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed = true;
+            } else if (directory != null && files.contains(directory.resolve((Path) event.context()))) {
+                changed = true;
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+        return changed;
+    }
+
+    private void reload() {
+        T result;
+        try {
+            result = load();
+            register();
+        } catch (Exception e) {
+            errorListener.accept(e);
+            return;
+        }
+        value = result;
+        reloadListener.accept(result);
+    }
+}
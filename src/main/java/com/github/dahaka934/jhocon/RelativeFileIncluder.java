@@ -0,0 +1,47 @@
+package com.github.dahaka934.jhocon;
+
+import com.typesafe.config.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Resolves includes relative to directory of parsed file,
+ * for documents parsed from {@link java.io.Reader} instead of file.
+ * Other includes are resolved by default includer.
+ */
+final class RelativeFileIncluder implements ConfigIncluder {
+    private static final String[] EXTENSIONS = {"", ".conf", ".json", ".properties"};
+
+    private final Path directory;
+    private final ConfigIncluder fallback;
+
+    RelativeFileIncluder(Path directory, ConfigIncluder fallback) {
+        this.directory = directory;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public ConfigIncluder withFallback(ConfigIncluder fallback) {
+        if (this.fallback == fallback) {
+            return this;
+        }
+        return new RelativeFileIncluder(directory, fallback);
+    }
+
+    @Override
+    public ConfigObject include(ConfigIncludeContext context, String what) {
+        if (directory != null) {
+            Path file = directory.resolve(what);
+            for (String extension : EXTENSIONS) {
+                if (Files.isRegularFile(file.resolveSibling(file.getFileName() + extension))) {
+                    return ConfigFactory.parseFileAnySyntax(file.toFile(), context.parseOptions()).root();
+                }
+            }
+        }
+        if (fallback != null) {
+            return fallback.include(context, what);
+        }
+        return ConfigFactory.empty().root();
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.dahaka934.jhocon.annotations;
+
+import com.github.dahaka934.jhocon.JHGeneratedTypeAdapterFactory;
+import com.github.dahaka934.jhocon.JHoconBuilder;
+
+import java.lang.annotation.*;
+
+/**
+ * This is annotation used for generating type adapter of class at compile time by jhocon-processor.<br/>
+ * Generated adapter writes and reads fields without reflection, {@link Comment}, {@link ValidatorRange},
+ * {@link ValidatorDoubleRange} and {@link ValidatorStringList} are inlined to it.<br/>
+ * You must enable generated adapters by {@link JHoconBuilder#withGeneratedAdapters()}.<br/>
+ * <br/>
+ * Supported only non-generic classes with non-private no-args constructor,
+ * all serialized fields must be non-private and non-final.
+ *
+ * @see JHGeneratedTypeAdapterFactory
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateAdapter {
+}
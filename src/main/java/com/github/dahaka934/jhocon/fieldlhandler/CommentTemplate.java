@@ -0,0 +1,32 @@
+package com.github.dahaka934.jhocon.fieldlhandler;
+
+import com.github.dahaka934.jhocon.JHoconHelper;
+
+/**
+ * Comment line, split once by {@code $value} placeholder into static segments.
+ */
+public final class CommentTemplate {
+    private static final String PLACEHOLDER = "$value";
+
+    private final String line;
+    // null, if line has no placeholder
+    private final String[] segments;
+
+    public CommentTemplate(String line) {
+        this.line = line;
+        this.segments = line.contains(PLACEHOLDER) ? line.split("\\$value", -1) : null;
+    }
+
+    public String render(Object value) {
+        if (segments == null) {
+            return line;
+        }
+        String str = JHoconHelper.objectToString(value);
+        StringBuilder builder = new StringBuilder(line.length() + str.length());
+        builder.append(segments[0]);
+        for (int i = 1; i < segments.length; ++i) {
+            builder.append(str).append(segments[i]);
+        }
+        return builder.toString();
+    }
+}
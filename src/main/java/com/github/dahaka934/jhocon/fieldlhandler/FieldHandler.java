@@ -30,4 +30,15 @@ public interface FieldHandler {
     default Object onRead(JsonReader reader, Field field, Object value) {
         return value;
     }
+
+    /**
+     * Creates handler for specific {@code field}.
+     * Called once per field, when type adapter is created, so all annotations lookups should be here.
+     *
+     * @param field target field
+     * @return handler for {@code field} or null, if this handler does nothing for {@code field}
+     */
+    default FieldHandler bind(Field field) {
+        return this;
+    }
 }
@@ -7,7 +7,8 @@ import com.google.gson.stream.JsonWriter;
 import java.lang.reflect.Field;
 
 /**
- * Implementation for {@link Comment} annotation.
+ * Implementation for {@link Comment} annotation.<br/>
+ * Comment is compiled once per field and rendered only for writers, which write comments.
  *
  * @see Comment
  */
@@ -15,13 +16,30 @@ public class FieldHandlerComment implements FieldHandler {
     @Override
     public Object onWrite(JsonWriter writer, Field field, Object value) {
         Comment ann = field.getAnnotation(Comment.class);
-        if (ann != null) {
-            String line = ann.value();
-            if (line.contains("$value")) {
-                line = line.replace("$value", JHoconHelper.objectToString(value));
-            }
-            JHoconHelper.comment(writer, line);
+        if (ann != null && JHoconHelper.isWithComments(writer)) {
+            JHoconHelper.comment(writer, new CommentTemplate(ann.value()).render(value));
         }
         return value;
     }
+
+    /**
+     * Comment is compiled once. Subclasses are not specialized, so their overridden methods are called.
+     */
+    @Override
+    public FieldHandler bind(Field field) {
+        if (getClass() != FieldHandlerComment.class) {
+            return FieldHandler.super.bind(field);
+        }
+        Comment ann = field.getAnnotation(Comment.class);
+        if (ann == null) {
+            return null;
+        }
+        CommentTemplate template = new CommentTemplate(ann.value());
+        return (writer, f, value) -> {
+            if (JHoconHelper.isWithComments(writer)) {
+                JHoconHelper.comment(writer, template.render(value));
+            }
+            return value;
+        };
+    }
 }
@@ -2,11 +2,13 @@ package com.github.dahaka934.jhocon.fieldlhandler;
 
 import com.github.dahaka934.jhocon.JHoconHelper;
 import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidator;
+import com.github.dahaka934.jhocon.reader.JHoconBaseReader;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -15,10 +17,19 @@ import java.util.logging.Logger;
  * Common implementation for field validation.
  */
 public class FieldHandlerValidator implements FieldHandler {
+    // not modified after freeze
     protected final List<FieldValidator> validators = new ArrayList<>();
     protected final Logger logger = Logger.getLogger("JHoconFieldValidator");
 
+    /**
+     * @deprecated use {@link #setThrowErrorOnFail(boolean)}. The value is captured by {@link #freeze()},
+     * later changes are ignored.
+     */
+    @Deprecated
     public boolean throwErrorOnFail = true;
+    // value of throwErrorOnFail, captured on freeze
+    private boolean frozenThrowErrorOnFail;
+    private boolean frozen = false;
 
     /**
      * Register custom {@link FieldValidator}.
@@ -26,11 +37,99 @@ public class FieldHandlerValidator implements FieldHandler {
      * @see FieldValidator
      */
     public void register(FieldValidator validator) {
+        if (frozen) {
+            throw new IllegalStateException("registration is not allowed after JHocon is created");
+        }
         validators.add(validator);
     }
 
+    /**
+     * Throw exception on validation fail or print message to log. True by default.
+     *
+     * @throws IllegalStateException if JHocon is already created
+     */
+    public void setThrowErrorOnFail(boolean value) {
+        if (frozen) {
+            throw new IllegalStateException("settings can't be changed after JHocon is created");
+        }
+        throwErrorOnFail = value;
+    }
+
+    public boolean isThrowErrorOnFail() {
+        return frozen ? frozenThrowErrorOnFail : throwErrorOnFail;
+    }
+
+    /**
+     * Makes registered validators and settings immutable, further registration throws {@link IllegalStateException}.
+     */
+    public void freeze() {
+        if (!frozen) {
+            frozenThrowErrorOnFail = throwErrorOnFail;
+            frozen = true;
+        }
+    }
+
+    /**
+     * @return registered validators in order of registration
+     */
+    public List<FieldValidator> getValidators() {
+        return Collections.unmodifiableList(validators);
+    }
+
     @Override
     public Object onWrite(JsonWriter writer, Field field, Object value) {
+        return onWrite(writer, field, value, validators);
+    }
+
+    @Override
+    public Object onRead(JsonReader reader, Field field, Object value) {
+        return onRead(reader, field, value, validators);
+    }
+
+    /**
+     * Binds all registered validators to {@code field}.
+     * Validators, which do nothing for {@code field}, are skipped.
+     * Subclasses are not specialized, so their overridden methods are called.
+     */
+    @Override
+    public FieldHandler bind(Field field) {
+        if (getClass() != FieldHandlerValidator.class) {
+            return FieldHandler.super.bind(field);
+        }
+        List<FieldValidator> bound = new ArrayList<>();
+        List<FieldValidator> sources = new ArrayList<>();
+        for (FieldValidator it : validators) {
+            FieldValidator validator = it.bind(field);
+            if (validator != null) {
+                bound.add(validator);
+                sources.add(it);
+            }
+        }
+        if (bound.isEmpty()) {
+            return null;
+        }
+        return new FieldHandler() {
+            @Override
+            public Object onWrite(JsonWriter writer, Field field, Object value) {
+                return FieldHandlerValidator.this.onWrite(writer, field, value, bound);
+            }
+
+            @Override
+            public Object onRead(JsonReader reader, Field field, Object value) {
+                for (int i = 0; i < bound.size(); ++i) {
+                    if (!bound.get(i).isValid(field, value)) {
+                        return onFail(reader, value, sources.get(i));
+                    }
+                }
+                return value;
+            }
+        };
+    }
+
+    protected Object onWrite(JsonWriter writer, Field field, Object value, List<FieldValidator> validators) {
+        if (!JHoconHelper.isWithComments(writer)) {
+            return value;
+        }
         for (FieldValidator it : validators) {
             String comment = it.getComment(field, value);
             if (comment != null && !comment.isEmpty()) {
@@ -40,24 +139,41 @@ public class FieldHandlerValidator implements FieldHandler {
         return value;
     }
 
-    @Override
-    public Object onRead(JsonReader reader, Field field, Object value) {
+    protected Object onRead(JsonReader reader, Field field, Object value, List<FieldValidator> validators) {
         for (FieldValidator it : validators) {
             if (!it.isValid(field, value)) {
-                if (throwErrorOnFail) {
-                    throw new FieldHandlerValidator.Exception(errorMessage(reader, value));
-                } else {
-                    logger.log(Level.WARNING, errorMessage(reader, value));
-                }
-                return null;
+                return onFail(reader, value, it);
             }
         }
         return value;
     }
 
+    /**
+     * Reports invalid {@code value}: collects {@link ValidationFailure}, if {@code reader} collects them,
+     * otherwise throws {@link Exception} or prints message to log.
+     *
+     * @param validator registered validator, which rejected value, or null if it is unknown
+     * @return value, which is written to field instead of invalid one
+     */
+    public Object onFail(JsonReader reader, Object value, FieldValidator validator) {
+        List<ValidationFailure> failures = (reader instanceof JHoconBaseReader)
+            ? ((JHoconBaseReader) reader).getFailures() : null;
+        if (failures != null) {
+            failures.add(new ValidationFailure(reader.getPath(), value, validator, errorMessage(reader, value)));
+        } else if (isThrowErrorOnFail()) {
+            throw new FieldHandlerValidator.Exception(errorMessage(reader, value));
+        } else if (logger.isLoggable(Level.WARNING)) {
+            logger.log(Level.WARNING, errorMessage(reader, value));
+        }
+        return null;
+    }
+
     protected String errorMessage(JsonReader reader, Object value) {
-        return String.format("Field '%s' has incorrect value (%s)",
-            reader.getPath(), JHoconHelper.objectToString(value));
+        return formatError(reader.getPath(), value);
+    }
+
+    static String formatError(String path, Object value) {
+        return String.format("Field '%s' has incorrect value (%s)", path, JHoconHelper.objectToString(value));
     }
 
     public static class Exception extends RuntimeException {
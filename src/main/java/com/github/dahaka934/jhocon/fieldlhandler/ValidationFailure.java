@@ -0,0 +1,50 @@
+package com.github.dahaka934.jhocon.fieldlhandler;
+
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidator;
+
+/**
+ * Invalid value, which is collected instead of throwing {@link FieldHandlerValidator.Exception}.
+ *
+ * @see com.github.dahaka934.jhocon.JHocon#fromHoconValidated
+ */
+public final class ValidationFailure {
+    /**
+     * Path of invalid value, for example {@code .db.pool.size}.
+     */
+    public final String path;
+    /**
+     * Invalid value.
+     */
+    public final Object value;
+    /**
+     * Registered validator, which rejected value, or null if it is unknown.
+     */
+    public final FieldValidator validator;
+    private final String message;
+
+    public ValidationFailure(String path, Object value, FieldValidator validator) {
+        this(path, value, validator, FieldHandlerValidator.formatError(path, value));
+    }
+
+    /**
+     * @param message the message of {@link FieldHandlerValidator}, which collected failure
+     */
+    public ValidationFailure(String path, Object value, FieldValidator validator, String message) {
+        this.path = path;
+        this.value = value;
+        this.validator = validator;
+        this.message = message;
+    }
+
+    /**
+     * @return the same message as {@link FieldHandlerValidator.Exception} has
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
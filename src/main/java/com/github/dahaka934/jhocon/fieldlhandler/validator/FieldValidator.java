@@ -24,4 +24,15 @@ public interface FieldValidator {
      * @return comment (null for empty comment)
      */
     String getComment(Field field, Object value);
+
+    /**
+     * Creates validator for specific {@code field}.
+     * Called once per field, when type adapter is created, so all annotations lookups should be here.
+     *
+     * @param field target field
+     * @return validator for {@code field} or null, if this validator does nothing for {@code field}
+     */
+    default FieldValidator bind(Field field) {
+        return this;
+    }
 }
@@ -3,34 +3,56 @@ package com.github.dahaka934.jhocon.fieldlhandler.validator;
 import com.github.dahaka934.jhocon.annotations.ValidatorCustom;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Implementation for {@link ValidatorCustom} annotation.
+ * Implementation for {@link ValidatorCustom} annotation.<br/>
+ * Each validator class is instantiated once, validator of each field is resolved once,
+ * so concurrent validation only reads caches without locking.
  *
  * @see ValidatorCustom
  */
 public class FieldValidatorCustomAnnotation implements FieldValidator {
+    // resolved for fields without annotation and for validators, which can't be instantiated
+    private static final FieldValidator NONE = new FieldValidator() {
+        @Override
+        public boolean isValid(Field field, Object value) {
+            return true;
+        }
+
+        @Override
+        public String getComment(Field field, Object value) {
+            return null;
+        }
+    };
 
-    protected final Map<Class<? extends FieldValidator>, FieldValidator> validators = new HashMap<>();
+    protected final Map<Class<? extends FieldValidator>, FieldValidator> validators = new ConcurrentHashMap<>();
+    private final Map<Field, FieldValidator> fields = new ConcurrentHashMap<>();
 
     protected FieldValidator getValidator(Field field) {
+        FieldValidator validator = fields.get(field);
+        if (validator == null) {
+            validator = fields.computeIfAbsent(field, this::resolve);
+        }
+        return validator != NONE ? validator : null;
+    }
+
+    private FieldValidator resolve(Field field) {
         ValidatorCustom ann = field.getAnnotation(ValidatorCustom.class);
-        FieldValidator validator = null;
-        if (ann != null) {
-            validator = validators.get(ann.value());
-            if (validator == null) {
-                try {
-                    validator = ann.value().newInstance();
-                } catch (InstantiationException | IllegalAccessException e) {
-                    e.printStackTrace();
-                } finally {
-                    validators.put(ann.value(), validator);
-                }
-            }
+        if (ann == null) {
+            return NONE;
+        }
+        return validators.computeIfAbsent(ann.value(), FieldValidatorCustomAnnotation::instantiate);
+    }
+
+    private static FieldValidator instantiate(Class<? extends FieldValidator> type) {
+        try {
+            return type.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            e.printStackTrace();
+            return NONE;
         }
-        return validator;
     }
 
     @Override
@@ -44,4 +66,16 @@ public class FieldValidatorCustomAnnotation implements FieldValidator {
         FieldValidator it = getValidator(field);
         return (it != null) ? it.getComment(field, value) : null;
     }
+
+    /**
+     * Subclasses are not specialized, so their overridden methods are called.
+     */
+    @Override
+    public FieldValidator bind(Field field) {
+        if (getClass() != FieldValidatorCustomAnnotation.class) {
+            return FieldValidator.super.bind(field);
+        }
+        FieldValidator it = getValidator(field);
+        return (it != null) ? it.bind(field) : null;
+    }
 }
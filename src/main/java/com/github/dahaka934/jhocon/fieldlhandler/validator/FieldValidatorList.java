@@ -4,6 +4,8 @@ import com.github.dahaka934.jhocon.annotations.ValidatorStringList;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Implementation for {@link ValidatorStringList} annotation.
@@ -29,13 +31,52 @@ public class FieldValidatorList implements FieldValidator {
         if (String.class.isAssignableFrom(field.getType())) {
             ValidatorStringList ann = field.getAnnotation(ValidatorStringList.class);
             if (ann != null) {
-                StringBuilder b = new StringBuilder("valid values: ");
-                if (ann.invert()) {
-                    b.append("not ");
-                }
-                return b.append(Arrays.toString(ann.value())).toString();
+                return comment(ann);
             }
         }
         return null;
     }
+
+    /**
+     * Values are looked up once. Subclasses are not specialized, so their overridden methods are called.
+     */
+    @Override
+    public FieldValidator bind(Field field) {
+        if (getClass() != FieldValidatorList.class) {
+            return FieldValidator.super.bind(field);
+        }
+        ValidatorStringList ann = field.getAnnotation(ValidatorStringList.class);
+        if (ann == null) {
+            return null;
+        }
+        Set<String> values = new HashSet<>(Arrays.asList(ann.value()));
+        boolean invert = ann.invert();
+        String comment = String.class.isAssignableFrom(field.getType()) ? comment(ann) : null;
+        return new FieldValidator() {
+            @Override
+            public boolean isValid(Field field, Object value) {
+                return !(value instanceof String) || !invert == values.contains(value);
+            }
+
+            @Override
+            public String getComment(Field field, Object value) {
+                return comment;
+            }
+        };
+    }
+
+    private static String comment(ValidatorStringList ann) {
+        return comment(ann.value(), ann.invert());
+    }
+
+    /**
+     * @return comment of {@link ValidatorStringList} with specific values
+     */
+    public static String comment(String[] values, boolean invert) {
+        StringBuilder b = new StringBuilder("valid values: ");
+        if (invert) {
+            b.append("not ");
+        }
+        return b.append(Arrays.toString(values)).toString();
+    }
 }
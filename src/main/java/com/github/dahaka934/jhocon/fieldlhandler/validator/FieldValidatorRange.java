@@ -32,17 +32,95 @@ public class FieldValidatorRange implements FieldValidator {
 
     @Override
     public String getComment(Field field, Object value) {
-        String comment = "valid range";
-        if (Number.class.isAssignableFrom(Primitives.wrap(field.getType()))) {
+        if (isNumber(field)) {
             ValidatorRange ann1 = field.getAnnotation(ValidatorRange.class);
             if (ann1 != null) {
-                return String.format(comment + ": [%d, %d]", ann1.min(), ann1.max());
+                return comment(ann1);
             }
             ValidatorDoubleRange ann2 = field.getAnnotation(ValidatorDoubleRange.class);
             if (ann2 != null) {
-                return String.format(comment + ": [%f, %f]", ann2.min(), ann2.max());
+                return comment(ann2);
             }
         }
         return null;
     }
+
+    /**
+     * Bounds are looked up once. Subclasses are not specialized, so their overridden methods are called.
+     */
+    @Override
+    public FieldValidator bind(Field field) {
+        if (getClass() != FieldValidatorRange.class) {
+            return FieldValidator.super.bind(field);
+        }
+        ValidatorRange ann1 = field.getAnnotation(ValidatorRange.class);
+        if (ann1 != null) {
+            int min = ann1.min();
+            int max = ann1.max();
+            String comment = isNumber(field) ? comment(ann1) : null;
+            return new FieldValidator() {
+                @Override
+                public boolean isValid(Field field, Object value) {
+                    if (value instanceof Number) {
+                        int n = ((Number) value).intValue();
+                        return min <= n && n <= max;
+                    }
+                    return true;
+                }
+
+                @Override
+                public String getComment(Field field, Object value) {
+                    return comment;
+                }
+            };
+        }
+        ValidatorDoubleRange ann2 = field.getAnnotation(ValidatorDoubleRange.class);
+        if (ann2 != null) {
+            double min = ann2.min();
+            double max = ann2.max();
+            String comment = isNumber(field) ? comment(ann2) : null;
+            return new FieldValidator() {
+                @Override
+                public boolean isValid(Field field, Object value) {
+                    if (value instanceof Number) {
+                        double n = ((Number) value).doubleValue();
+                        return min <= n && n <= max;
+                    }
+                    return true;
+                }
+
+                @Override
+                public String getComment(Field field, Object value) {
+                    return comment;
+                }
+            };
+        }
+        return null;
+    }
+
+    private static boolean isNumber(Field field) {
+        return Number.class.isAssignableFrom(Primitives.wrap(field.getType()));
+    }
+
+    private static String comment(ValidatorRange ann) {
+        return comment(ann.min(), ann.max());
+    }
+
+    private static String comment(ValidatorDoubleRange ann) {
+        return comment(ann.min(), ann.max());
+    }
+
+    /**
+     * @return comment of {@link ValidatorRange} with specific bounds
+     */
+    public static String comment(int min, int max) {
+        return String.format("valid range: [%d, %d]", min, max);
+    }
+
+    /**
+     * @return comment of {@link ValidatorDoubleRange} with specific bounds
+     */
+    public static String comment(double min, double max) {
+        return String.format("valid range: [%f, %f]", min, max);
+    }
 }
@@ -0,0 +1,27 @@
+package com.github.dahaka934.jhocon.reader;
+
+import com.github.dahaka934.jhocon.fieldlhandler.ValidationFailure;
+import com.google.gson.stream.JsonReaderStub;
+
+import java.util.List;
+
+/**
+ * Common parent of readers, for which field handlers are applied.
+ */
+public abstract class JHoconBaseReader extends JsonReaderStub {
+    private List<ValidationFailure> failures;
+
+    /**
+     * @return list, to which validation failures are collected instead of throwing, or null
+     */
+    public List<ValidationFailure> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @param failures list, to which validation failures are collected instead of throwing, or null
+     */
+    public void setFailures(List<ValidationFailure> failures) {
+        this.failures = failures;
+    }
+}
@@ -1,18 +1,53 @@
 package com.github.dahaka934.jhocon.reader;
 
-import com.google.gson.stream.JsonReaderStub;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactoryEx;
 import com.google.gson.stream.JsonToken;
 
 import java.io.IOException;
 
 /**
- * Using for read object from specific structure instead of json.
+ * Using for read object from specific structure instead of json.<br/>
+ * Supports {@link com.typesafe.config.ConfigValue} trees and their unwrapped representation.
+ * Values of objects can be looked up by name without iterating over keys.
  */
-public class JHoconReader extends JsonReaderStub {
+public class JHoconReader extends JHoconBaseReader implements ReflectiveTypeAdapterFactoryEx.KeyLookup {
+    private final Node root;
     private Node curr;
+    private String pathPrefix = "";
 
     public JHoconReader(Object value) {
-        curr = new Node(null, value);
+        this(value, PathSelector.ALL);
+    }
+
+    /**
+     * @param value    the root value
+     * @param selector the selector of read keys, other keys are skipped without visiting
+     */
+    public JHoconReader(Object value, PathSelector selector) {
+        root = new Node(null, value, selector);
+        curr = root;
+    }
+
+    /**
+     * Prepares reader for reading of other value. Frames of nested objects and arrays are reused,
+     * path prefix is cleared.
+     *
+     * @param value    the root value
+     * @param selector the selector of read keys
+     */
+    public void reset(Object value, PathSelector selector) {
+        root.reset(value, selector);
+        curr = root;
+        pathPrefix = "";
+        setPeeked(0);
+    }
+
+    /**
+     * @param pathPrefix path of the root value in its parent, which is prepended to {@link #getPath()},
+     *                   for example {@code .servers[1]}
+     */
+    public void setPathPrefix(String pathPrefix) {
+        this.pathPrefix = pathPrefix;
     }
 
     @Override
@@ -51,6 +86,11 @@ public class JHoconReader extends JsonReaderStub {
         return curr.nextName();
     }
 
+    @Override
+    public boolean selectName(String name) {
+        return curr.selectName(name);
+    }
+
     @Override
     public String nextString() throws IOException {
         return curr.nextString();
@@ -86,9 +126,18 @@ public class JHoconReader extends JsonReaderStub {
         curr.skipValue();
     }
 
+    /**
+     * Returns current value without reading it, so it can be read by separate {@link JHoconReader}s.
+     *
+     * @return current value, or null if value is partially selected by {@link PathSelector}
+     */
+    public Object peekValue() throws IOException {
+        return curr.peekValue();
+    }
+
     @Override
     public String getPath() {
-        StringBuilder builder = new StringBuilder();
+        StringBuilder builder = new StringBuilder(pathPrefix);
         curr.buildPath(builder);
         return builder.toString();
     }
@@ -0,0 +1,865 @@
+package com.github.dahaka934.jhocon.reader;
+
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import com.typesafe.config.ConfigUtil;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Using for read object directly from HOCON text.<br/>
+ * Unlike {@link JHoconReader}, neither Typesafe Config tree nor its unwrapped copy is created:
+ * the text is tokenized on demand, so only current value is kept in memory.<br/>
+ * <br/>
+ * Supported only subset of HOCON, which can be read in one pass:
+ * <ul>
+ * <li>substitutions, includes and '+=' are not supported;</li>
+ * <li>every key must be present once, objects with the same key are not merged,
+ * so duplicated keys and reopened path prefixes ({@code a.b = 1, a.c = 2}) are rejected;</li>
+ * <li>concatenation is supported only for simple values.</li>
+ * </ul>
+ * Path expressions as keys ({@code a.b.c = 1}) are read as nested objects.
+ */
+public class JHoconStreamReader extends JHoconBaseReader {
+    // Scopes
+    private static final int DOCUMENT = 0;
+    private static final int OBJECT = 1;
+    private static final int ROOT_OBJECT = 2;
+    private static final int PATH_OBJECT = 3;
+    private static final int ARRAY = 4;
+
+    // States of scope
+    private static final int EMPTY = 0;
+    private static final int NAME = 1;
+    private static final int NONEMPTY = 2;
+
+    private static final String FORBIDDEN_CHARS = "$\"{}[]:=,+#`^?!@*&\\";
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int pos = 0;
+    private int limit = 0;
+    private int line = 1;
+    private int column = 1;
+
+    private int[] scopes = new int[32];
+    private int[] states = new int[32];
+    private String[] names = new String[32];
+    private int[] indices = new int[32];
+    private String[][] segments = new String[32][];
+    private int[] segmentIndices = new int[32];
+    // first segments of keys, read in object; sets are reused by objects at the same depth
+    private final List<Set<String>> keys = new ArrayList<>();
+    private int stackSize = 0;
+
+    private int selectDepth = 1;
+    private boolean documentEnded = false;
+
+    private JsonToken token = null;
+    private int beginScope;
+    private boolean promotedName = false;
+    private String tokenValue;
+
+    private final StringBuilder text = new StringBuilder();
+    private final StringBuilder spaces = new StringBuilder();
+
+    public JHoconStreamReader(Reader in) {
+        this.in = in;
+        push(DOCUMENT);
+    }
+
+    /**
+     * Move reader to value with specific {@code path}.
+     * After that the value is read as whole document.
+     *
+     * @param path path expression, {@code null} for root object
+     * @throws IOException if there is no value with such path
+     */
+    public void select(String path) throws IOException {
+        if (path == null) {
+            return;
+        }
+        List<String> keys = ConfigUtil.splitPath(path);
+        for (String key : keys) {
+            if (peek() != JsonToken.BEGIN_OBJECT) {
+                throw new MalformedJsonException("Value at '" + path + "' is not found, "
+                    + "parent has type " + peek() + " rather than object");
+            }
+            beginObject();
+            boolean found = false;
+            while (hasNext()) {
+                if (key.equals(nextName())) {
+                    found = true;
+                    break;
+                }
+                skipValue();
+            }
+            if (!found) {
+                throw new MalformedJsonException("No configuration setting found for key '" + path + "'");
+            }
+        }
+        selectDepth = stackSize;
+    }
+
+    /**
+     * Reads the rest of document after selected value without binding it.
+     * So the selected value is rejected, if its key is present again, as HOCON would merge or override it.
+     *
+     * @throws IOException if the rest of document is not valid or uses unsupported features
+     */
+    public void readToEnd() throws IOException {
+        selectDepth = 0; // document ends only after trailing blanks are checked
+        documentEnded = false;
+        token = null;
+        while (true) {
+            switch (peek()) {
+                case END_DOCUMENT:
+                    return;
+                case END_OBJECT:
+                    endObject();
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    break;
+                case NAME:
+                    nextName();
+                    break;
+                default:
+                    skipValue();
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        readChar();
+        token = null;
+        states[stackSize - 1] = NONEMPTY;
+        push(ARRAY);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        readChar();
+        pop();
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        token = null;
+        int parent = stackSize - 1;
+        states[parent] = NONEMPTY;
+        if (beginScope == OBJECT) {
+            readChar();
+        }
+        push(beginScope);
+        if (beginScope == PATH_OBJECT) {
+            segments[stackSize - 1] = segments[parent];
+            segmentIndices[stackSize - 1] = segmentIndices[parent] + 1;
+        }
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        if (scopes[stackSize - 1] == OBJECT) {
+            readChar();
+        }
+        pop();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        JsonToken t = peek();
+        return t != JsonToken.END_OBJECT && t != JsonToken.END_ARRAY && t != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        setPeeked(0);
+        if (token == null) {
+            token = doPeekToken();
+        }
+        return token;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        String ret = tokenValue;
+        names[stackSize - 1] = ret;
+        states[stackSize - 1] = NAME;
+        token = null;
+        return ret;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        JsonToken t = peek();
+        if (t != JsonToken.STRING && t != JsonToken.NUMBER && t != JsonToken.BOOLEAN) {
+            throw unexpected("a string", t);
+        }
+        return consumeValue();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        JsonToken t = peek();
+        if (t != JsonToken.BOOLEAN && t != JsonToken.STRING) {
+            throw unexpected("a boolean", t);
+        }
+        return Boolean.valueOf(consumeValue());
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+        consumeValue();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        JsonToken t = peek();
+        if (t != JsonToken.NUMBER && t != JsonToken.STRING) {
+            throw unexpected("a double", t);
+        }
+        double ret = Double.parseDouble(tokenValue);
+        consumeValue();
+        return ret;
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        JsonToken t = peek();
+        if (t != JsonToken.NUMBER && t != JsonToken.STRING) {
+            throw unexpected("a long", t);
+        }
+        long ret = t == JsonToken.NUMBER && !isIntegral(tokenValue)
+            ? (long) Double.parseDouble(tokenValue)
+            : Long.parseLong(tokenValue);
+        consumeValue();
+        return ret;
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        JsonToken t = peek();
+        if (t != JsonToken.NUMBER && t != JsonToken.STRING) {
+            throw unexpected("an int", t);
+        }
+        int ret;
+        if (t == JsonToken.NUMBER) {
+            ret = isIntegral(tokenValue)
+                ? (int) Long.parseLong(tokenValue)
+                : (int) Double.parseDouble(tokenValue);
+        } else {
+            ret = Integer.parseInt(tokenValue);
+        }
+        consumeValue();
+        return ret;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        int count = 0;
+        do {
+            JsonToken t = peek();
+            switch (t) {
+                case BEGIN_ARRAY:
+                    beginArray();
+                    ++count;
+                    break;
+                case BEGIN_OBJECT:
+                    beginObject();
+                    ++count;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    --count;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    --count;
+                    break;
+                case NAME:
+                    nextName();
+                    break;
+                case END_DOCUMENT:
+                    return;
+                default:
+                    consumeValue();
+                    break;
+            }
+        } while (count > 0);
+    }
+
+    @Override
+    public String getPath() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = selectDepth; i < stackSize; ++i) {
+            if (scopes[i] == ARRAY) {
+                builder.append('[').append(indices[i] - 1).append(']');
+            } else if (names[i] != null) {
+                builder.append('.').append(names[i]);
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " at line " + line + " column " + column;
+    }
+
+    @Override
+    protected int doPeek() {
+        // Hack
+        // Signal from JsonReaderInternalAccess.INSTANCE.promoteNameToValue
+        // Next name is read as string value
+        try {
+            expect(JsonToken.NAME);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        token = JsonToken.STRING;
+        promotedName = true;
+        return 13; // PEEKED_DOUBLE_QUOTED_NAME
+    }
+
+    private void push(int scope) {
+        if (stackSize == scopes.length) {
+            int size = stackSize * 2;
+            scopes = Arrays.copyOf(scopes, size);
+            states = Arrays.copyOf(states, size);
+            names = Arrays.copyOf(names, size);
+            indices = Arrays.copyOf(indices, size);
+            segments = Arrays.copyOf(segments, size);
+            segmentIndices = Arrays.copyOf(segmentIndices, size);
+        }
+        scopes[stackSize] = scope;
+        states[stackSize] = EMPTY;
+        names[stackSize] = null;
+        indices[stackSize] = 0;
+        segments[stackSize] = null;
+        segmentIndices[stackSize] = 0;
+        if (stackSize < keys.size()) {
+            keys.get(stackSize).clear();
+        }
+        ++stackSize;
+    }
+
+    private void pop() {
+        token = null;
+        --stackSize;
+        if (stackSize == selectDepth) {
+            documentEnded = true;
+        }
+    }
+
+    private String consumeValue() {
+        String ret = tokenValue;
+        token = null;
+        if (promotedName) {
+            promotedName = false;
+            names[stackSize - 1] = ret;
+            states[stackSize - 1] = NAME;
+        } else {
+            states[stackSize - 1] = NONEMPTY;
+            if (stackSize == selectDepth) {
+                documentEnded = true;
+            }
+        }
+        return ret;
+    }
+
+    private void expect(JsonToken expected) throws IOException {
+        JsonToken t = peek();
+        if (t != expected) {
+            throw unexpected(expected.toString(), t);
+        }
+    }
+
+    private IllegalStateException unexpected(String expected, JsonToken actual) {
+        return new IllegalStateException("Expected " + expected + " but was " + actual + locationString());
+    }
+
+    private JsonToken doPeekToken() throws IOException {
+        if (documentEnded) {
+            return JsonToken.END_DOCUMENT;
+        }
+        int top = stackSize - 1;
+        switch (scopes[top]) {
+            case DOCUMENT:
+                skipBlank();
+                int c = peekChar(0);
+                if (states[top] == NONEMPTY) {
+                    if (c >= 0) {
+                        throw syntaxError("Unexpected trailing tokens '" + (char) c + "'");
+                    }
+                    return JsonToken.END_DOCUMENT;
+                }
+                if (c == '[') {
+                    return JsonToken.BEGIN_ARRAY;
+                }
+                beginScope = c == '{' ? OBJECT : ROOT_OBJECT;
+                return JsonToken.BEGIN_OBJECT;
+            case OBJECT:
+            case ROOT_OBJECT:
+                if (states[top] == NAME) {
+                    return peekValueOfName(top);
+                }
+                boolean separated = skipSeparator(top);
+                c = peekChar(0);
+                if (c == '}') {
+                    if (scopes[top] == ROOT_OBJECT) {
+                        throw syntaxError("Unbalanced close brace '}'");
+                    }
+                    return JsonToken.END_OBJECT;
+                }
+                if (c < 0) {
+                    if (scopes[top] == OBJECT) {
+                        throw syntaxError("End of input inside object");
+                    }
+                    return JsonToken.END_OBJECT;
+                }
+                if ((c == '{' || c == '[') && states[top] == NONEMPTY && !separated) {
+                    throw unsupported("Concatenation of objects and arrays");
+                }
+                segments[top] = readKey();
+                segmentIndices[top] = 0;
+                while (keys.size() <= top) {
+                    keys.add(new HashSet<>());
+                }
+                if (!keys.get(top).add(segments[top][0])) {
+                    throw unsupported("Duplicated keys '" + segments[top][0] + "'");
+                }
+                tokenValue = segments[top][0];
+                return JsonToken.NAME;
+            case PATH_OBJECT:
+                if (states[top] == EMPTY) {
+                    tokenValue = segments[top][segmentIndices[top]];
+                    return JsonToken.NAME;
+                } else if (states[top] == NAME) {
+                    return peekValueOfName(top);
+                }
+                return JsonToken.END_OBJECT;
+            case ARRAY:
+                separated = skipSeparator(top);
+                c = peekChar(0);
+                if (c == ']') {
+                    return JsonToken.END_ARRAY;
+                }
+                if (c < 0) {
+                    throw syntaxError("End of input inside array");
+                }
+                if ((c == '{' || c == '[') && states[top] == NONEMPTY && !separated) {
+                    throw unsupported("Concatenation of objects and arrays");
+                }
+                ++indices[top];
+                return readValue();
+            default:
+                throw new AssertionError();
+        }
+    }
+
+    private JsonToken peekValueOfName(int top) throws IOException {
+        if (segmentIndices[top] < segments[top].length - 1) {
+            beginScope = PATH_OBJECT;
+            return JsonToken.BEGIN_OBJECT;
+        }
+        return readValue();
+    }
+
+    private JsonToken readValue() throws IOException {
+        skipBlank();
+        int c = peekChar(0);
+        switch (c) {
+            case '{':
+                beginScope = OBJECT;
+                return JsonToken.BEGIN_OBJECT;
+            case '[':
+                return JsonToken.BEGIN_ARRAY;
+            case -1:
+                throw syntaxError("Expected value but was end of input");
+            default:
+                if (c == '$' && peekChar(1) == '{') {
+                    throw unsupported("Substitutions");
+                }
+                if (c != '"' && !isUnquotedChar(c, peekChar(1))) {
+                    throw syntaxError("Expected value but was '" + (char) c + "'");
+                }
+                return readSimpleValue();
+        }
+    }
+
+    private JsonToken readSimpleValue() throws IOException {
+        text.setLength(0);
+        int parts = 0;
+        boolean quoted = false;
+        while (true) {
+            int c = peekChar(0);
+            if (c == '"') {
+                quoted = true;
+                readQuoted(text);
+            } else if (c == '$') {
+                if (peekChar(1) == '{') {
+                    throw unsupported("Substitutions");
+                }
+                throw syntaxError("Unexpected token '$'");
+            } else {
+                readUnquoted(text);
+            }
+            ++parts;
+
+            readSpaces();
+            c = peekChar(0);
+            if (c == '"' || isUnquotedChar(c, peekChar(1)) || c == '$') {
+                text.append(spaces);
+            } else if (c == '{' || c == '[') {
+                throw unsupported("Concatenation of objects and arrays");
+            } else {
+                break;
+            }
+        }
+
+        tokenValue = text.toString();
+        if (parts == 1 && !quoted) {
+            switch (tokenValue) {
+                case "true":
+                case "false":
+                    return JsonToken.BOOLEAN;
+                case "null":
+                    return JsonToken.NULL;
+                default:
+                    if (isNumber(tokenValue)) {
+                        return JsonToken.NUMBER;
+                    }
+            }
+        }
+        return JsonToken.STRING;
+    }
+
+    private String[] readKey() throws IOException {
+        List<String> list = null;
+        text.setLength(0);
+        boolean empty = true;
+        while (true) {
+            int c = peekChar(0);
+            if (c == '"') {
+                readQuoted(text);
+                empty = false;
+            } else if (isUnquotedChar(c, peekChar(1))) {
+                while (isUnquotedChar(c = peekChar(0), peekChar(1))) {
+                    readChar();
+                    if (c == '.') {
+                        if (list == null) {
+                            list = new ArrayList<>();
+                        }
+                        list.add(text.toString());
+                        text.setLength(0);
+                    } else {
+                        text.append((char) c);
+                    }
+                }
+                empty = false;
+            } else if (c >= 0 && c != '\n' && isWhitespace(c)) {
+                readSpaces();
+                c = peekChar(0);
+                if (c == '"' || isUnquotedChar(c, peekChar(1))) {
+                    if (list == null && "include".contentEquals(text)) {
+                        throw unsupported("Includes");
+                    }
+                    text.append(spaces);
+                } else {
+                    break;
+                }
+            } else {
+                break;
+            }
+        }
+        if (empty) {
+            throw syntaxError("Expected key");
+        }
+
+        int c = peekChar(0);
+        if (c == '=' || c == ':') {
+            readChar();
+        } else if (c == '+' && peekChar(1) == '=') {
+            throw unsupported("'+='");
+        } else if (c != '{') {
+            throw syntaxError("Key '" + text + "' may not be followed by token '" + (char) c + "'");
+        }
+
+        if (list == null) {
+            return new String[]{text.toString()};
+        }
+        list.add(text.toString());
+        return list.toArray(new String[0]);
+    }
+
+    private void readQuoted(StringBuilder out) throws IOException {
+        readChar();
+        if (peekChar(0) == '"' && peekChar(1) == '"') {
+            readChar();
+            readChar();
+            readTripleQuoted(out);
+            return;
+        }
+        while (true) {
+            int c = peekChar(0);
+            if (c < 0 || c == '\n') {
+                throw syntaxError("Unterminated string");
+            }
+            readChar();
+            if (c == '"') {
+                return;
+            } else if (c == '\\') {
+                readEscape(out);
+            } else {
+                out.append((char) c);
+            }
+        }
+    }
+
+    private void readTripleQuoted(StringBuilder out) throws IOException {
+        while (true) {
+            int c = peekChar(0);
+            if (c < 0) {
+                throw syntaxError("Unterminated triple-quoted string");
+            }
+            if (c == '"' && peekChar(1) == '"' && peekChar(2) == '"') {
+                readChar();
+                readChar();
+                readChar();
+                // Extra quotes at end are part of string
+                while (peekChar(0) == '"') {
+                    out.append(readChar());
+                }
+                return;
+            }
+            out.append(readChar());
+        }
+    }
+
+    private void readEscape(StringBuilder out) throws IOException {
+        int c = peekChar(0);
+        if (c < 0) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        readChar();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                out.append((char) c);
+                break;
+            case 'b':
+                out.append('\b');
+                break;
+            case 'f':
+                out.append('\f');
+                break;
+            case 'n':
+                out.append('\n');
+                break;
+            case 'r':
+                out.append('\r');
+                break;
+            case 't':
+                out.append('\t');
+                break;
+            case 'u':
+                int result = 0;
+                for (int i = 0; i < 4; ++i) {
+                    int digit = Character.digit(peekChar(0), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Malformed \\u escape sequence");
+                    }
+                    readChar();
+                    result = (result << 4) + digit;
+                }
+                out.append((char) result);
+                break;
+            default:
+                throw syntaxError("Invalid escape sequence '\\" + (char) c + "'");
+        }
+    }
+
+    private void readUnquoted(StringBuilder out) throws IOException {
+        while (isUnquotedChar(peekChar(0), peekChar(1))) {
+            out.append(readChar());
+        }
+    }
+
+    /**
+     * Reads whitespaces, excluding new lines, to {@link #spaces}.
+     */
+    private void readSpaces() throws IOException {
+        spaces.setLength(0);
+        int c;
+        while ((c = peekChar(0)) >= 0 && c != '\n' && isWhitespace(c)) {
+            spaces.append(readChar());
+        }
+    }
+
+    /**
+     * Skips whitespaces, comments and commas.
+     */
+    /**
+     * Skips blanks and at most one comma, which may follow only an element of object or array.
+     *
+     * @return true, if next element is separated from previous one by comma or new line
+     */
+    private boolean skipSeparator(int top) throws IOException {
+        int start = line;
+        skipBlank();
+        boolean separated = line != start;
+        if (states[top] == NONEMPTY && peekChar(0) == ',') {
+            readChar();
+            skipBlank();
+            separated = true;
+        }
+        if (peekChar(0) == ',') {
+            throw syntaxError("Unexpected ','");
+        }
+        return separated;
+    }
+
+    private void skipBlank() throws IOException {
+        while (true) {
+            int c = peekChar(0);
+            if (c < 0) {
+                return;
+            }
+            if (isWhitespace(c)) {
+                readChar();
+            } else if (c == '#' || (c == '/' && peekChar(1) == '/')) {
+                while ((c = peekChar(0)) >= 0 && c != '\n') {
+                    readChar();
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private int peekChar(int offset) throws IOException {
+        if (pos + offset >= limit && !fillBuffer(offset + 1)) {
+            return -1;
+        }
+        return buffer[pos + offset];
+    }
+
+    private char readChar() throws IOException {
+        if (pos >= limit && !fillBuffer(1)) {
+            throw syntaxError("Unexpected end of input");
+        }
+        char c = buffer[pos++];
+        if (c == '\n') {
+            ++line;
+            column = 1;
+        } else {
+            ++column;
+        }
+        return c;
+    }
+
+    private boolean fillBuffer(int minimum) throws IOException {
+        if (pos > 0) {
+            limit -= pos;
+            System.arraycopy(buffer, pos, buffer, 0, limit);
+            pos = 0;
+        }
+        while (limit < minimum) {
+            int count = in.read(buffer, limit, buffer.length - limit);
+            if (count < 0) {
+                return false;
+            }
+            limit += count;
+        }
+        return true;
+    }
+
+    private String locationString() {
+        return " at line " + line + " column " + column + " path " + getPath();
+    }
+
+    private MalformedJsonException syntaxError(String message) {
+        return new MalformedJsonException(message + locationString());
+    }
+
+    private MalformedJsonException unsupported(String feature) {
+        return new MalformedJsonException(feature + " are not supported by streaming reader" + locationString());
+    }
+
+    private static boolean isWhitespace(int c) {
+        return Character.isWhitespace(c) || c == '\u00A0' || c == '\u2007' || c == '\u202F' || c == '\uFEFF';
+    }
+
+    private static boolean isUnquotedChar(int c, int next) {
+        return c >= 0 && !isWhitespace(c) && FORBIDDEN_CHARS.indexOf(c) < 0 && !(c == '/' && next == '/');
+    }
+
+    private static boolean isIntegral(String str) {
+        for (int i = 0; i < str.length(); ++i) {
+            char c = str.charAt(i);
+            if (c == '.' || c == 'e' || c == 'E') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Grammar: -? digit+ (. digit*)? ([eE] [+-]? digit+)?
+     */
+    private static boolean isNumber(String str) {
+        int i = 0;
+        int length = str.length();
+        if (i < length && str.charAt(i) == '-') {
+            ++i;
+        }
+        int start = i;
+        while (i < length && Character.isDigit(str.charAt(i))) {
+            ++i;
+        }
+        if (i == start) {
+            return false;
+        }
+        if (i < length && str.charAt(i) == '.') {
+            ++i;
+            while (i < length && Character.isDigit(str.charAt(i))) {
+                ++i;
+            }
+        }
+        if (i < length && (str.charAt(i) == 'e' || str.charAt(i) == 'E')) {
+            ++i;
+            if (i < length && (str.charAt(i) == '+' || str.charAt(i) == '-')) {
+                ++i;
+            }
+            start = i;
+            while (i < length && Character.isDigit(str.charAt(i))) {
+                ++i;
+            }
+            if (i == start) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.dahaka934.jhocon.reader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link Reader} of memory-mapped file.<br/>
+ * File is mapped by windows and decoded incrementally directly into caller buffer,
+ * so neither whole file content, nor its decoded copy are kept on heap.
+ * Malformed input is reported as {@link java.nio.charset.CharacterCodingException}.
+ */
+public class MappedFileReader extends Reader {
+    private static final int DEFAULT_WINDOW = 64 << 20;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private final CharsetDecoder decoder;
+
+    private ByteBuffer window;
+    private long windowStart = 0;
+    private boolean flushed = false;
+    private final char[] spare = new char[2];
+    private int pending = -1;
+
+    public MappedFileReader(Path path) throws IOException {
+        this(path, StandardCharsets.UTF_8, DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param path       the file
+     * @param charset    the charset of the file
+     * @param windowSize the maximum size of mapped region
+     */
+    public MappedFileReader(Path path, Charset charset, int windowSize) throws IOException {
+        if (windowSize < 16) {
+            throw new IllegalArgumentException("window size is too small: " + windowSize);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        this.decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+        map();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (window == null) {
+            throw new IOException("Reader is closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (pending >= 0) {
+            cbuf[off] = (char) pending;
+            pending = -1;
+            return 1;
+        }
+        if (len == 1) {
+            // surrogate pair can't be decoded into one char
+            int read = decode(CharBuffer.wrap(spare));
+            if (read > 0) {
+                cbuf[off] = spare[0];
+                if (read == 2) {
+                    pending = spare[1];
+                }
+                return 1;
+            }
+            return read;
+        }
+        return decode(CharBuffer.wrap(cbuf, off, len));
+    }
+
+    private int decode(CharBuffer out) throws IOException {
+        if (flushed) {
+            // decoder can't be used after flush
+            return -1;
+        }
+        int start = out.position();
+        while (true) {
+            boolean last = windowStart + window.limit() >= size;
+            CoderResult result = decoder.decode(window, out, last);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (out.position() > start) {
+                return out.position() - start;
+            }
+            if (last) {
+                decoder.flush(out);
+                flushed = true;
+                return out.position() > start ? out.position() - start : -1;
+            }
+            // the rest of window is an incomplete character, it is mapped again with next window
+            windowStart += window.position();
+            map();
+        }
+    }
+
+    private void map() throws IOException {
+        long length = Math.min(windowSize, size - windowStart);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
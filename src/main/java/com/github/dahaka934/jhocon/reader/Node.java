@@ -1,25 +1,48 @@
 package com.github.dahaka934.jhocon.reader;
 
 import com.google.gson.stream.JsonToken;
+import com.typesafe.config.ConfigValue;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Frame of reading. Frames of nested objects and arrays are created once per depth
+ * and reused by {@link #reset(Object, PathSelector)}, so they form a stack.
+ */
 class Node {
     final Node prev;
+    PathSelector selector;
     private Object cursor;
     private boolean isEnd = false;
+    private NodeObject childObject;
+    private NodeArray childArray;
 
     enum Type {
         ROOT, OBJECT, ARRAY
     }
 
-    Node(Node prev, Object value) {
+    Node(Node prev, Object value, PathSelector selector) {
         this.prev = prev;
+        this.selector = selector;
         cursor = value;
     }
 
+    /**
+     * Prepares frame for reading of {@code value}.
+     */
+    void reset(Object value, PathSelector selector) {
+        this.selector = selector;
+        cursor = value;
+        isEnd = false;
+    }
+
+    /**
+     * Releases read value, when frame is ended.
+     */
+    void clear() {}
+
     Type getType() { return Type.ROOT; }
 
     Object getCursor() {
@@ -30,6 +53,13 @@ class Node {
         this.cursor = cursor;
     }
 
+    /**
+     * @return selector of current value
+     */
+    PathSelector getCursorSelector() {
+        return selector;
+    }
+
     void nextElement() throws IOException {
         isEnd = true;
         setCursor(null);
@@ -45,24 +75,34 @@ class Node {
 
     Node beginArray() throws IOException {
         assertEnd();
-        return new NodeArray(this, getCursor());
+        if (childArray == null) {
+            childArray = new NodeArray(this);
+        }
+        childArray.reset(getCursor(), getCursorSelector());
+        return childArray;
     }
 
     Node endArray() throws IOException {
         isEnd = true;
         setCursor(null);
+        clear();
         prev.nextElement();
         return prev;
     }
 
     Node beginObject() throws IOException {
         assertEnd();
-        return new NodeObject(this, getCursor());
+        if (childObject == null) {
+            childObject = new NodeObject(this);
+        }
+        childObject.reset(getCursor(), getCursorSelector());
+        return childObject;
     }
 
     Node endObject() throws IOException {
         isEnd = true;
         setCursor(null);
+        clear();
         prev.nextElement();
         return prev;
     }
@@ -71,8 +111,25 @@ class Node {
         return !isEnd && getCursor() != null;
     }
 
+    /**
+     * @return value of {@link ConfigValue}, if it's not object or list, or {@code cursor} else.
+     */
+    static Object unwrapLeaf(Object cursor) {
+        if (cursor instanceof ConfigValue) {
+            ConfigValue value = (ConfigValue) cursor;
+            switch (value.valueType()) {
+                case OBJECT:
+                case LIST:
+                    return cursor;
+                default:
+                    return value.unwrapped();
+            }
+        }
+        return cursor;
+    }
+
     JsonToken peek() {
-        if (isEnd) {
+        if (isEnd || (getType() != Type.ROOT && !hasNext())) {
             switch (getType()) {
                 case OBJECT:
                     return JsonToken.END_OBJECT;
@@ -84,6 +141,22 @@ class Node {
         }
 
         Object cursor = getCursor();
+        if (cursor instanceof ConfigValue) {
+            switch (((ConfigValue) cursor).valueType()) {
+                case OBJECT:
+                    return JsonToken.BEGIN_OBJECT;
+                case LIST:
+                    return JsonToken.BEGIN_ARRAY;
+                case NUMBER:
+                    return JsonToken.NUMBER;
+                case BOOLEAN:
+                    return JsonToken.BOOLEAN;
+                case STRING:
+                    return JsonToken.STRING;
+                default:
+                    return JsonToken.NULL;
+            }
+        }
         if (cursor == null) {
             return JsonToken.NULL;
         } else if (cursor instanceof String) {
@@ -104,6 +177,15 @@ class Node {
         return null;
     }
 
+    /**
+     * Moves to value with specific {@code name}, instead of iterating over keys.
+     *
+     * @return true, if value is present
+     */
+    boolean selectName(String name) {
+        return false;
+    }
+
     void nextNull() throws IOException {
         assertEnd();
         nextElement();
@@ -111,19 +193,19 @@ class Node {
 
     String nextString() throws IOException {
         assertEnd();
-        String ret = getCursor().toString();
+        String ret = unwrapLeaf(getCursor()).toString();
         nextElement();
         return ret;
     }
 
     boolean nextBoolean() throws IOException {
         assertEnd();
-        Object cursor = getCursor();
+        Object cursor = unwrapLeaf(getCursor());
         boolean ret = false;
         if (cursor instanceof Boolean) {
             ret = (Boolean) cursor;
         } else if (cursor instanceof String) {
-            ret = Boolean.valueOf(cursor.toString());
+            ret = Boolean.parseBoolean(cursor.toString());
         }
         nextElement();
         return ret;
@@ -131,12 +213,12 @@ class Node {
 
     double nextDouble() throws IOException {
         assertEnd();
-        Object cursor = getCursor();
+        Object cursor = unwrapLeaf(getCursor());
         double ret = 0.0;
         if (cursor instanceof Number) {
             ret = ((Number) cursor).doubleValue();
         } else if (cursor instanceof String) {
-            ret = Double.valueOf(cursor.toString());
+            ret = Double.parseDouble(cursor.toString());
         }
         nextElement();
         return ret;
@@ -144,12 +226,12 @@ class Node {
 
     long nextLong() throws IOException {
         assertEnd();
-        Object cursor = getCursor();
+        Object cursor = unwrapLeaf(getCursor());
         long ret = 0L;
         if (cursor instanceof Number) {
             ret = ((Number) cursor).longValue();
         } else if (cursor instanceof String) {
-            ret = Long.valueOf(cursor.toString());
+            ret = Long.parseLong(cursor.toString());
         }
         nextElement();
         return ret;
@@ -157,17 +239,23 @@ class Node {
 
     int nextInt() throws IOException {
         assertEnd();
-        Object cursor = getCursor();
+        Object cursor = unwrapLeaf(getCursor());
         int ret = 0;
         if (cursor instanceof Number) {
             ret = ((Number) cursor).intValue();
         } else if (cursor instanceof String) {
-            ret = Integer.valueOf(cursor.toString());
+            ret = Integer.parseInt(cursor.toString());
         }
         nextElement();
         return ret;
     }
 
+    Object peekValue() throws IOException {
+        assertEnd();
+        PathSelector cursorSelector = getCursorSelector();
+        return cursorSelector != null && cursorSelector.isAll() ? getCursor() : null;
+    }
+
     void skipValue() throws IOException {
         assertEnd();
         nextElement();
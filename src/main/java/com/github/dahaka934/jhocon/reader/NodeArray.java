@@ -2,24 +2,42 @@ package com.github.dahaka934.jhocon.reader;
 
 import java.util.List;
 
+/**
+ * Node of {@link List}, including {@link com.typesafe.config.ConfigList}.
+ */
 class NodeArray extends Node {
-    private List<Object> list;
+    private List<?> list;
     private int index = 0;
 
-    @SuppressWarnings("unchecked")
-    NodeArray(Node prev, Object value) {
-        super(prev, null);
-        list = (List<Object>) value;
-        nextElement();
+    NodeArray(Node prev) {
+        super(prev, null, PathSelector.ALL);
+    }
+
+    @Override
+    void reset(Object value, PathSelector selector) {
+        super.reset(null, selector);
+        list = (List<?>) value;
+        index = 0;
+        setCursor(!list.isEmpty() ? list.get(0) : null);
+    }
+
+    @Override
+    void clear() {
+        list = null;
     }
 
     @Override
     Type getType() { return Type.ARRAY; }
 
+    @Override
+    boolean hasNext() {
+        return index < list.size();
+    }
+
     @Override
     void nextElement() {
-        setCursor(index < list.size() ? list.get(index) : null);
         ++index;
+        setCursor(index < list.size() ? list.get(index) : null);
     }
 
     @Override
@@ -30,6 +48,6 @@ class NodeArray extends Node {
     @Override
     void buildPath(StringBuilder buf) {
         prev.buildPath(buf);
-        buf.append('[').append(index - 1).append(']');
+        buf.append('[').append(index).append(']');
     }
 }
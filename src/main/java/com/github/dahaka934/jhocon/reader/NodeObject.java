@@ -1,22 +1,54 @@
 package com.github.dahaka934.jhocon.reader;
 
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueType;
+
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Node of {@link Map}, including {@link com.typesafe.config.ConfigObject}.<br/>
+ * Values are accessed by key, because {@link com.typesafe.config.ConfigObject#values()}
+ * and {@link com.typesafe.config.ConfigObject#entrySet()} create copies.<br/>
+ * If only some keys are selected, they are looked up directly instead of iterating over all keys.
+ * Iteration starts on first access, so object, read by {@link #selectName(String)}, is never iterated.
+ */
 class NodeObject extends Node {
+    private Map<String, ?> map;
     private Iterator<String> iteratorKeys;
-    private Iterator<Object> iteratorValues;
 
     private String keyCursor;
+    // key of value, which is read now; cursor is moved to the next key as soon as value is consumed
+    private String keyPath;
+    private PathSelector keySelector;
+    private boolean hasEntry;
     private boolean isKeyCursor = false;
+    private boolean isLookup = false;
+
+    NodeObject(Node prev) {
+        super(prev, null, PathSelector.ALL);
+    }
 
+    @Override
     @SuppressWarnings("unchecked")
-    NodeObject(Node prev, Object value) {
-        super(prev, null);
-        Map<String, Object> map = (Map<String, Object>) value;
-        iteratorKeys = map.keySet().iterator();
-        iteratorValues = map.values().iterator();
-        setCursor(iteratorValues.hasNext() ? iteratorValues.next() : null);
+    void reset(Object value, PathSelector selector) {
+        super.reset(null, selector);
+        map = (Map<String, ?>) value;
+        iteratorKeys = null;
+        keyCursor = null;
+        keyPath = null;
+        keySelector = null;
+        hasEntry = false;
+        isKeyCursor = false;
+        isLookup = false;
+    }
+
+    @Override
+    void clear() {
+        map = null;
+        iteratorKeys = null;
+        keySelector = null;
     }
 
     @Override
@@ -24,33 +56,110 @@ class NodeObject extends Node {
 
     @Override
     void signalReadMap() {
+        start();
         isKeyCursor = true;
-        nextName();
+        keyPath = keyCursor;
     }
 
     @Override
     Object getCursor() {
+        start();
         return (isKeyCursor) ? keyCursor : super.getCursor();
     }
 
+    @Override
+    PathSelector getCursorSelector() {
+        start();
+        return keySelector;
+    }
+
+    @Override
+    boolean hasNext() {
+        start();
+        return hasEntry;
+    }
+
     @Override
     void nextElement() {
         if (isKeyCursor) {
             isKeyCursor = false;
+        } else if (isLookup) {
+            hasEntry = false;
+            setCursor(null);
         } else {
-            setCursor(iteratorValues.hasNext() ? iteratorValues.next() : null);
+            nextEntry();
         }
     }
 
     @Override
     String nextName() {
-        keyCursor = iteratorKeys.hasNext() ? iteratorKeys.next() : null;
+        start();
+        keyPath = keyCursor;
         return keyCursor;
     }
 
+    @Override
+    boolean selectName(String name) {
+        if (iteratorKeys != null) {
+            return false;
+        }
+        isLookup = true;
+        hasEntry = map.containsKey(name) && isSelected(name);
+        if (hasEntry) {
+            keyCursor = name;
+            keyPath = name;
+            keySelector = selector.child(name);
+            setCursor(map.get(name));
+        }
+        return hasEntry;
+    }
+
     @Override
     void buildPath(StringBuilder buf) {
         prev.buildPath(buf);
-        buf.append('.').append(keyCursor);
+        buf.append('.').append(keyPath);
+    }
+
+    /**
+     * Value, which is not object or array, is selected only entirely.
+     */
+    private boolean isSelected(String key) {
+        if (selector.isAll()) {
+            return true;
+        }
+        PathSelector child = selector.child(key);
+        if (child == null) {
+            return false;
+        }
+        if (child.isAll()) {
+            return true;
+        }
+        Object value = map.get(key);
+        if (value instanceof ConfigValue) {
+            ConfigValueType type = ((ConfigValue) value).valueType();
+            return type == ConfigValueType.OBJECT || type == ConfigValueType.LIST;
+        }
+        return value instanceof Map || value instanceof List;
+    }
+
+    private void start() {
+        if (iteratorKeys != null || isLookup) {
+            return;
+        }
+        if (selector.isAll()) {
+            iteratorKeys = map.keySet().iterator();
+        } else if (selector.isAnyKey() || selector.keys().size() > map.size()) {
+            iteratorKeys = map.keySet().stream().filter(this::isSelected).iterator();
+        } else {
+            iteratorKeys = selector.keys().stream().filter(it -> map.containsKey(it) && isSelected(it)).iterator();
+        }
+        nextEntry();
+    }
+
+    private void nextEntry() {
+        hasEntry = iteratorKeys.hasNext();
+        keyCursor = hasEntry ? iteratorKeys.next() : null;
+        keySelector = hasEntry ? selector.child(keyCursor) : null;
+        setCursor(hasEntry ? map.get(keyCursor) : null);
     }
 }
@@ -0,0 +1,108 @@
+package com.github.dahaka934.jhocon.reader;
+
+import java.util.*;
+
+/**
+ * Immutable tree of dotted paths, which restricts keys read by {@link JHoconReader}.<br/>
+ * Path {@code db.pool.size} selects whole value of {@code size} key inside {@code db.pool} object,
+ * segment {@code *} matches any key, so {@code cache.*} selects whole {@code cache} object
+ * and {@code *.size} selects {@code size} key of every top-level object.
+ * Selector of object is applied to each element of array.<br/>
+ * Keys, which aren't selected, are never visited, so their values are not converted at all.
+ */
+public final class PathSelector {
+    /**
+     * Selector of whole value.
+     */
+    public static final PathSelector ALL = new PathSelector(true, Collections.emptyMap(), null);
+
+    private final boolean all;
+    private final Map<String, PathSelector> children;
+    private final PathSelector any;
+
+    private PathSelector(boolean all, Map<String, PathSelector> children, PathSelector any) {
+        this.all = all;
+        this.children = children;
+        this.any = any;
+    }
+
+    /**
+     * @param paths the dotted paths, relative to root value
+     * @return selector of specified paths
+     */
+    public static PathSelector of(String... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    /**
+     * @param paths the dotted paths, relative to root value
+     * @return selector of specified paths
+     */
+    public static PathSelector of(Collection<String> paths) {
+        List<String[]> split = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            if (path.isEmpty()) {
+                return ALL;
+            }
+            split.add(path.split("\\.", -1));
+        }
+        return build(split, 0);
+    }
+
+    private static PathSelector build(List<String[]> paths, int depth) {
+        Map<String, List<String[]>> groups = new LinkedHashMap<>();
+        List<String[]> anyGroup = new ArrayList<>();
+        for (String[] path : paths) {
+            if (path.length == depth) {
+                return ALL;
+            }
+            String key = path[depth];
+            if ("*".equals(key)) {
+                anyGroup.add(path);
+            } else {
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(path);
+            }
+        }
+
+        PathSelector any = !anyGroup.isEmpty() ? build(anyGroup, depth + 1) : null;
+        Map<String, PathSelector> children = new HashMap<>();
+        for (Map.Entry<String, List<String[]>> it : groups.entrySet()) {
+            List<String[]> group = it.getValue();
+            group.addAll(anyGroup);
+            children.put(it.getKey(), build(group, depth + 1));
+        }
+        return new PathSelector(false, children, any);
+    }
+
+    /**
+     * @return true, if whole value is selected
+     */
+    public boolean isAll() {
+        return all;
+    }
+
+    /**
+     * @return selector of value with {@code key}, or null if it's not selected
+     */
+    public PathSelector child(String key) {
+        if (all) {
+            return this;
+        }
+        PathSelector child = children.get(key);
+        return child != null ? child : any;
+    }
+
+    /**
+     * @return true, if each key of object must be checked, false if only {@link #keys()} may be selected
+     */
+    boolean isAnyKey() {
+        return all || any != null;
+    }
+
+    /**
+     * @return explicitly selected keys
+     */
+    Set<String> keys() {
+        return children.keySet();
+    }
+}
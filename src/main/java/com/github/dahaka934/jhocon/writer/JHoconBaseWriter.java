@@ -0,0 +1,26 @@
+package com.github.dahaka934.jhocon.writer;
+
+import com.google.gson.stream.JsonWriterStub;
+
+/**
+ * Common parent of writers, which supports comments above values.
+ */
+public abstract class JHoconBaseWriter extends JsonWriterStub {
+    protected final boolean withComments;
+
+    protected JHoconBaseWriter(boolean withComments) {
+        this.withComments = withComments;
+    }
+
+    /**
+     * @return true, if comments are written
+     */
+    public boolean isWithComments() {
+        return withComments;
+    }
+
+    /**
+     * Set comment to current node.
+     */
+    public abstract void comment(String comment);
+}
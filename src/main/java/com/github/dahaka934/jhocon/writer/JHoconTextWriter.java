@@ -0,0 +1,380 @@
+package com.github.dahaka934.jhocon.writer;
+
+import com.google.gson.stream.JsonWriter;
+import com.typesafe.config.ConfigUtil;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Using for write object directly to HOCON text.<br/>
+ * Unlike {@link JHoconWriter}, no intermediate structure is created:
+ * every value is appended to output as soon as it is written.
+ * Only one pending name and comment are buffered at a time.<br/>
+ * Keys are written in writing order. Strings are unquoted, if possible.
+ * Name of root value is a path expression, as in {@link JHoconWriter}.
+ */
+public class JHoconTextWriter extends JHoconBaseWriter {
+    private static final String INDENT = "    ";
+
+    private static final int ROOT = 0;
+    private static final int OBJECT = 1;
+    private static final int ARRAY = 2;
+
+    private final Appendable out;
+
+    private int[] stack = new int[32];
+    private boolean[] nonEmpty = new boolean[32];
+    private int depth = 0;
+
+    private String name = null;
+    private final StringBuilder comment = new StringBuilder();
+    private boolean hasComment = false;
+
+    public JHoconTextWriter(Appendable out, boolean withComments) {
+        super(withComments);
+        this.out = out;
+        stack[0] = ROOT;
+    }
+
+    @Override
+    public void comment(String comment) {
+        if (withComments && comment != null) {
+            if (hasComment) {
+                this.comment.append('\n');
+            }
+            this.comment.append(comment);
+            hasComment = true;
+        }
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        beforeValue("=");
+        out.append('[');
+        push(ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        boolean hasElements = pop(ARRAY);
+        if (hasElements) {
+            out.append('\n');
+            indent(depth);
+        }
+        out.append(']');
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        beforeValue(" ");
+        out.append('{');
+        push(OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        if (name != null) {
+            throw new IllegalStateException("Dangling name: " + name);
+        }
+        boolean hasEntries = pop(OBJECT);
+        if (hasEntries) {
+            indent(depth);
+        }
+        out.append('}');
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) {
+        if (name == null) {
+            throw new NullPointerException("name == null");
+        }
+        if (this.name != null) {
+            throw new IllegalStateException("Dangling name: " + this.name);
+        }
+        int ctx = stack[depth];
+        if (ctx == ARRAY || (ctx == ROOT && nonEmpty[0])) {
+            throw new IllegalStateException("Name is not expected here: " + name);
+        }
+        this.name = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue("=");
+        renderString(value);
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue("=");
+        out.append(value);
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        beforeValue("=");
+        out.append("null");
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue("=");
+        out.append(value ? "true" : "false");
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        return value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        beforeValue("=");
+        renderNumber(Double.toString(value), Double.isNaN(value) || Double.isInfinite(value));
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        beforeValue("=");
+        out.append(Long.toString(value));
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        String str = value.toString();
+        beforeValue("=");
+        renderNumber(str, str.equals("NaN") || str.endsWith("Infinity"));
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public boolean isLenient() {
+        return true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out instanceof Flushable) {
+            ((Flushable) out).flush();
+        }
+    }
+
+    /**
+     * Output is owned by caller and is not closed here.
+     */
+    @Override
+    public void close() throws IOException {
+        if (depth != 0) {
+            throw new IOException("Incomplete document");
+        }
+        flush();
+    }
+
+    private void push(int ctx) {
+        ++depth;
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+            nonEmpty = Arrays.copyOf(nonEmpty, depth * 2);
+        }
+        stack[depth] = ctx;
+        nonEmpty[depth] = false;
+    }
+
+    private boolean pop(int ctx) {
+        if (stack[depth] != ctx) {
+            throw new IllegalStateException("Nesting problem");
+        }
+        return nonEmpty[depth--];
+    }
+
+    private void beforeValue(String separator) throws IOException {
+        int ctx = stack[depth];
+        if (ctx == ROOT) {
+            if (nonEmpty[0]) {
+                throw new IllegalStateException("JSON must have only one top-level value.");
+            }
+            writeComment(0);
+            if (name != null) {
+                renderPath(name);
+                out.append(separator);
+                name = null;
+            }
+        } else if (ctx == OBJECT) {
+            if (name == null) {
+                throw new IllegalStateException("Expected name of value");
+            }
+            if (!nonEmpty[depth]) {
+                out.append('\n');
+            }
+            writeComment(depth);
+            indent(depth);
+            renderString(name);
+            out.append(separator);
+            name = null;
+        } else {
+            out.append(nonEmpty[depth] ? ",\n" : "\n");
+            writeComment(depth);
+            indent(depth);
+        }
+        nonEmpty[depth] = true;
+    }
+
+    private void afterValue() throws IOException {
+        if (stack[depth] != ARRAY) {
+            out.append('\n');
+        }
+    }
+
+    private void writeComment(int indent) throws IOException {
+        if (!hasComment) {
+            return;
+        }
+        int start = 0;
+        int length = comment.length();
+        while (start <= length) {
+            int end = comment.indexOf("\n", start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                indent(indent);
+                out.append("# ").append(comment, start, end).append('\n');
+            }
+            start = end + 1;
+        }
+        comment.setLength(0);
+        hasComment = false;
+    }
+
+    private void indent(int count) throws IOException {
+        for (int i = 0; i < count; ++i) {
+            out.append(INDENT);
+        }
+    }
+
+    private void renderNumber(String str, boolean quoted) throws IOException {
+        if (quoted) {
+            out.append('"').append(str).append('"');
+        } else {
+            out.append(str);
+        }
+    }
+
+    /**
+     * Writes {@code path} with each key rendered separately, so it is parsed as nested objects.
+     */
+    private void renderPath(String path) throws IOException {
+        List<String> keys = ConfigUtil.splitPath(path);
+        for (int i = 0; i < keys.size(); ++i) {
+            if (i > 0) {
+                out.append('.');
+            }
+            renderString(keys.get(i));
+        }
+    }
+
+    /**
+     * Same rules, as in Typesafe Config renderer.
+     */
+    private void renderString(String str) throws IOException {
+        if (canBeUnquoted(str)) {
+            out.append(str);
+            return;
+        }
+        out.append('"');
+        int last = 0;
+        int length = str.length();
+        for (int i = 0; i < length; ++i) {
+            char c = str.charAt(i);
+            String replacement;
+            switch (c) {
+                case '"':
+                    replacement = "\\\"";
+                    break;
+                case '\\':
+                    replacement = "\\\\";
+                    break;
+                case '\n':
+                    replacement = "\\n";
+                    break;
+                case '\b':
+                    replacement = "\\b";
+                    break;
+                case '\f':
+                    replacement = "\\f";
+                    break;
+                case '\r':
+                    replacement = "\\r";
+                    break;
+                case '\t':
+                    replacement = "\\t";
+                    break;
+                default:
+                    if (Character.isISOControl(c)) {
+                        replacement = String.format("\\u%04x", (int) c);
+                        break;
+                    }
+                    continue;
+            }
+            out.append(str, last, i).append(replacement);
+            last = i + 1;
+        }
+        out.append(str, last, length).append('"');
+    }
+
+    private static boolean canBeUnquoted(String str) {
+        if (str.isEmpty()) {
+            return false;
+        }
+        char first = str.charAt(0);
+        if (Character.isDigit(first) || first == '-') {
+            return false;
+        }
+        if (str.startsWith("include") || str.startsWith("true") || str.startsWith("false")
+            || str.startsWith("null") || str.contains("//")) {
+            return false;
+        }
+        for (int i = 0; i < str.length(); ++i) {
+            char c = str.charAt(i);
+            if (!(Character.isLetter(c) || Character.isDigit(c) || c == '-')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
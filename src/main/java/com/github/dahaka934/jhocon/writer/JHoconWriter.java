@@ -1,17 +1,25 @@
 package com.github.dahaka934.jhocon.writer;
 
 import com.google.gson.stream.JsonWriter;
-import com.google.gson.stream.JsonWriterStub;
+import com.typesafe.config.ConfigValue;
 
 /**
  * Using for write object to specific structure instead of json.
  */
-public class JHoconWriter extends JsonWriterStub {
-    private Node curr = new Node(null);
-    private final boolean withComments;
+public class JHoconWriter extends JHoconBaseWriter {
+    private final Node root = new Node(null);
+    private Node curr = root;
 
     public JHoconWriter(boolean withComments) {
-        this.withComments = withComments;
+        super(withComments);
+    }
+
+    /**
+     * Prepares writer for writing of new value. Frames of nested objects and arrays are reused.
+     */
+    public void reset() {
+        root.reset();
+        curr = root;
     }
 
     /**
@@ -21,9 +29,7 @@ public class JHoconWriter extends JsonWriterStub {
         return curr.getValue();
     }
 
-    /**
-     * Set comment to current node.
-     */
+    @Override
     public void comment(String comment) {
         if (withComments) {
             curr.comment(comment);
@@ -72,6 +78,14 @@ public class JHoconWriter extends JsonWriterStub {
         return this;
     }
 
+    /**
+     * Writes value, which was already created, for example by other {@link JHoconWriter}.
+     */
+    public JsonWriter configValue(ConfigValue value) {
+        curr.value(value);
+        return this;
+    }
+
     @Override
     public JsonWriter nullValue() {
         curr.nullValue();
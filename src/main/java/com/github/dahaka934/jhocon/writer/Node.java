@@ -2,17 +2,36 @@ package com.github.dahaka934.jhocon.writer;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigOriginFactory;
+import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueFactory;
 
+/**
+ * Frame of writing. Frames of nested objects and arrays are created once per depth
+ * and reused by {@link #reset()}, so they form a stack. Collected map or list is reused too,
+ * because it is copied, when it is converted to {@link com.typesafe.config.ConfigValue}.
+ */
 class Node {
     final Node prev;
     private Object value;
-    private String comment = null;
+    // comments are accumulated in reused builder
+    private StringBuilder comment = null;
+    private boolean hasComment = false;
+    private NodeObject childObject;
+    private NodeArray childArray;
 
     Node(Node prev) {
         this.prev = prev;
     }
 
+    /**
+     * Prepares frame for writing of new value.
+     */
+    void reset() {
+        value = null;
+        hasComment = false;
+    }
+
     Object getValue() {
         return value;
     }
@@ -22,11 +41,24 @@ class Node {
     }
 
     void comment(String comment) {
-        if (comment != null && this.comment != null) {
-            this.comment += '\n' + comment;
+        if (comment == null) {
+            hasComment = false;
+            return;
+        }
+        if (this.comment == null) {
+            this.comment = new StringBuilder();
+        }
+        if (!hasComment) {
+            this.comment.setLength(0);
+            hasComment = true;
         } else {
-            this.comment = comment;
+            this.comment.append('\n');
         }
+        this.comment.append(comment);
+    }
+
+    boolean hasComment() {
+        return hasComment;
     }
 
     void put(Object value) {
@@ -34,26 +66,40 @@ class Node {
     }
 
     Object convert(Object value) {
-        String comment = this.comment != null ? this.comment : "";
-        this.comment = null;
+        String comment = hasComment ? this.comment.toString() : "";
+        hasComment = false;
+        if (value instanceof ConfigValue) {
+            // converted by child frame, only comment is attached
+            return comment.isEmpty() ? value : ((ConfigValue) value).withOrigin(ConfigOriginFactory.newSimple(comment));
+        }
         return ConfigValueFactory.fromAnyRef(value, comment);
     }
 
     Node beginArray() {
-        return new NodeArray(this);
+        if (childArray == null) {
+            childArray = new NodeArray(this);
+        }
+        childArray.reset();
+        return childArray;
     }
 
     Node endArray() {
         prev.put(getValue());
+        reset();
         return prev;
     }
 
     Node beginObject() {
-        return new NodeObject(this);
+        if (childObject == null) {
+            childObject = new NodeObject(this);
+        }
+        childObject.reset();
+        return childObject;
     }
 
     Node endObject() {
         prev.put(getValue());
+        reset();
         return prev;
     }
 
@@ -63,6 +109,14 @@ class Node {
         put(value);
     }
 
+    void value(long value) {
+        put(value);
+    }
+
+    void value(double value) {
+        put(value);
+    }
+
     void jsonValue(String value) {
         try {
             Config config = ConfigFactory.parseString(value);
@@ -1,16 +1,129 @@
 package com.github.dahaka934.jhocon.writer;
 
+import com.typesafe.config.ConfigValueFactory;
+
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 
+/**
+ * Homogeneous long or double elements without comments are stored in primitive array
+ * and converted at once, so all of them share one origin.
+ */
 class NodeArray extends Node {
+    private static final int EMPTY = 0;
+    private static final int LONGS = 1;
+    private static final int DOUBLES = 2;
+    private static final int OBJECTS = 3;
+
+    private final ArrayList<Object> list = new ArrayList<>();
+    private int mode = EMPTY;
+    private long[] longs;
+    private double[] doubles;
+    private int size = 0;
+
     NodeArray(Node prev) {
         super(prev);
-        setValue(new ArrayList<>());
     }
 
     @Override
-    @SuppressWarnings("unchecked")
+    void reset() {
+        super.reset();
+        list.clear();
+        mode = EMPTY;
+        size = 0;
+        setValue(list);
+    }
+
+    /**
+     * Stored primitives are converted to {@link com.typesafe.config.ConfigList} directly,
+     * its comment is attached by parent.
+     */
+    @Override
+    Object getValue() {
+        if (mode == LONGS || mode == DOUBLES) {
+            Primitives view = mode == LONGS ? new Primitives(longs, null, size) : new Primitives(null, doubles, size);
+            return ConfigValueFactory.fromIterable(view, "");
+        }
+        return list;
+    }
+
+    @Override
     void put(Object value) {
-        ((ArrayList<Object>) getValue()).add(convert(value));
+        spill();
+        list.add(convert(value));
+    }
+
+    @Override
+    void value(long value) {
+        if (mode == EMPTY && !hasComment()) {
+            mode = LONGS;
+            if (longs == null) {
+                longs = new long[16];
+            }
+        }
+        if (mode != LONGS || hasComment()) {
+            put(value);
+            return;
+        }
+        if (size == longs.length) {
+            longs = Arrays.copyOf(longs, size * 2);
+        }
+        longs[size++] = value;
+    }
+
+    @Override
+    void value(double value) {
+        if (mode == EMPTY && !hasComment()) {
+            mode = DOUBLES;
+            if (doubles == null) {
+                doubles = new double[16];
+            }
+        }
+        if (mode != DOUBLES || hasComment()) {
+            put(value);
+            return;
+        }
+        if (size == doubles.length) {
+            doubles = Arrays.copyOf(doubles, size * 2);
+        }
+        doubles[size++] = value;
+    }
+
+    /**
+     * View of stored primitives. Elements are boxed only while they are converted.
+     */
+    private static final class Primitives extends AbstractList<Object> {
+        private final long[] longs;
+        private final double[] doubles;
+        private final int size;
+
+        Primitives(long[] longs, double[] doubles, int size) {
+            this.longs = longs;
+            this.doubles = doubles;
+            this.size = size;
+        }
+
+        @Override
+        public Object get(int index) {
+            return longs != null ? (Object) longs[index] : (Object) doubles[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Moves stored primitives to list of values, when array becomes heterogeneous.
+     */
+    private void spill() {
+        for (int i = 0; i < size; ++i) {
+            Object value = mode == LONGS ? (Object) longs[i] : (Object) doubles[i];
+            list.add(ConfigValueFactory.fromAnyRef(value, ""));
+        }
+        mode = OBJECTS;
+        size = 0;
     }
 }
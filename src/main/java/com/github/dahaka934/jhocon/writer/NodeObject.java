@@ -3,17 +3,24 @@ package com.github.dahaka934.jhocon.writer;
 import java.util.HashMap;
 
 class NodeObject extends Node {
+    private final HashMap<String, Object> map = new HashMap<>();
     private String name = "unnamed";
 
     NodeObject(Node prev) {
         super(prev);
-        setValue(new HashMap<String, Object>());
     }
 
     @Override
-    @SuppressWarnings("unchecked")
+    void reset() {
+        super.reset();
+        map.clear();
+        name = "unnamed";
+        setValue(map);
+    }
+
+    @Override
     void put(Object value) {
-        ((HashMap<String, Object>) getValue()).put(name, convert(value));
+        map.put(name, convert(value));
     }
 
     @Override
@@ -0,0 +1,358 @@
+package com.google.gson.internal.bind;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactoryEx.BoundField;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactoryEx.FieldBinding;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * {@link BoundField}s, which access field via {@link MethodHandle}s.<br/>
+ * Primitive int, long, double and boolean fields, which are handled by built-in Gson type adapters
+ * and have no {@link FieldBinding}, are written and read without boxing.
+ */
+final class BoundFieldHandles {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private BoundFieldHandles() {
+    }
+
+    /**
+     * @return bound field or null, if {@code field} can't be accessed via method handles
+     */
+    static BoundField create(Field field, String name, boolean serialize, boolean deserialize,
+                             FieldBinding binding, TypeAdapter<Object> typeAdapter, TypeAdapter<Object> writeAdapter) {
+        MethodHandle getter;
+        MethodHandle setter;
+        try {
+            getter = LOOKUP.unreflectGetter(field);
+            setter = LOOKUP.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+
+        Class<?> type = field.getType();
+        TypeAdapter<?> adapter = typeAdapter; // compared with built-in adapters of other types
+        if (binding == null) {
+            if (type == int.class && adapter == TypeAdapters.INTEGER) {
+                return new IntField(name, field, serialize, deserialize, getter, setter);
+            }
+            if (type == long.class && adapter == TypeAdapters.LONG) {
+                return new LongField(name, field, serialize, deserialize, getter, setter);
+            }
+            if (type == double.class && isDoubleAdapter(typeAdapter)) {
+                return new DoubleField(name, field, serialize, deserialize, getter, setter, typeAdapter);
+            }
+            if (type == boolean.class && adapter == TypeAdapters.BOOLEAN) {
+                return new BooleanField(name, field, serialize, deserialize, getter, setter);
+            }
+        }
+        FieldBinding fieldBinding = binding != null ? binding : FieldBinding.DIRECT;
+        return new ObjectField(name, field, serialize, deserialize, getter, setter,
+            type.isPrimitive(), fieldBinding, typeAdapter, writeAdapter);
+    }
+
+    /**
+     * Gson uses {@link TypeAdapters#DOUBLE} or own anonymous adapter, which checks special values.
+     */
+    private static boolean isDoubleAdapter(TypeAdapter<?> adapter) {
+        return adapter == TypeAdapters.DOUBLE || adapter.getClass().getEnclosingClass() == Gson.class;
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new JsonIOException(t);
+    }
+
+    private static final class ObjectField extends BoundField {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final boolean isPrimitive;
+        private final FieldBinding binding;
+        private final TypeAdapter<Object> readAdapter;
+        private final TypeAdapter<Object> writeAdapter;
+
+        ObjectField(String name, Field field, boolean serialize, boolean deserialize,
+                    MethodHandle getter, MethodHandle setter, boolean isPrimitive,
+                    FieldBinding binding, TypeAdapter<Object> typeAdapter, TypeAdapter<Object> writeAdapter) {
+            super(name, field, serialize, deserialize, typeAdapter);
+            this.getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            this.isPrimitive = isPrimitive;
+            this.binding = binding;
+            this.readAdapter = typeAdapter;
+            this.writeAdapter = writeAdapter;
+        }
+
+        @Override
+        Object get(Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        boolean writeField(Object value) {
+            return serialized && get(value) != value; // avoid recursion for example for Throwable.cause
+        }
+
+        @Override
+        void write(JsonWriter writer, Object value) throws IOException {
+            binding.write(writer, writeAdapter, get(value));
+        }
+
+        @Override
+        void read(JsonReader reader, Object value) throws IOException {
+            Object fieldValue = binding.read(reader, readAdapter);
+            if (fieldValue != null || !isPrimitive) {
+                try {
+                    setter.invokeExact(value, fieldValue);
+                } catch (Throwable t) {
+                    throw rethrow(t);
+                }
+            }
+        }
+    }
+
+    private static final class IntField extends BoundField {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        IntField(String name, Field field, boolean serialize, boolean deserialize,
+                 MethodHandle getter, MethodHandle setter) {
+            super(name, field, serialize, deserialize, TypeAdapters.INTEGER);
+            this.getter = getter.asType(MethodType.methodType(int.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+        }
+
+        @Override
+        Object get(Object instance) {
+            try {
+                return (int) getter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        boolean writeField(Object value) {
+            return serialized;
+        }
+
+        @Override
+        void write(JsonWriter writer, Object value) throws IOException {
+            int fieldValue;
+            try {
+                fieldValue = (int) getter.invokeExact(value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            writer.value(fieldValue);
+        }
+
+        @Override
+        void read(JsonReader reader, Object value) throws IOException {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return;
+            }
+            int fieldValue;
+            try {
+                fieldValue = reader.nextInt();
+            } catch (NumberFormatException e) {
+                throw new JsonSyntaxException(e);
+            }
+            try {
+                setter.invokeExact(value, fieldValue);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    private static final class LongField extends BoundField {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        LongField(String name, Field field, boolean serialize, boolean deserialize,
+                  MethodHandle getter, MethodHandle setter) {
+            super(name, field, serialize, deserialize, TypeAdapters.LONG);
+            this.getter = getter.asType(MethodType.methodType(long.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+        }
+
+        @Override
+        Object get(Object instance) {
+            try {
+                return (long) getter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        boolean writeField(Object value) {
+            return serialized;
+        }
+
+        @Override
+        void write(JsonWriter writer, Object value) throws IOException {
+            long fieldValue;
+            try {
+                fieldValue = (long) getter.invokeExact(value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            writer.value(fieldValue);
+        }
+
+        @Override
+        void read(JsonReader reader, Object value) throws IOException {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return;
+            }
+            long fieldValue;
+            try {
+                fieldValue = reader.nextLong();
+            } catch (NumberFormatException e) {
+                throw new JsonSyntaxException(e);
+            }
+            try {
+                setter.invokeExact(value, fieldValue);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    private static final class DoubleField extends BoundField {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final TypeAdapter<Number> doubleAdapter;
+
+        @SuppressWarnings("unchecked")
+        DoubleField(String name, Field field, boolean serialize, boolean deserialize,
+                    MethodHandle getter, MethodHandle setter, TypeAdapter<?> typeAdapter) {
+            super(name, field, serialize, deserialize, typeAdapter);
+            this.getter = getter.asType(MethodType.methodType(double.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+            this.doubleAdapter = (TypeAdapter<Number>) typeAdapter;
+        }
+
+        @Override
+        Object get(Object instance) {
+            try {
+                return (double) getter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        boolean writeField(Object value) {
+            return serialized;
+        }
+
+        @Override
+        void write(JsonWriter writer, Object value) throws IOException {
+            double fieldValue;
+            try {
+                fieldValue = (double) getter.invokeExact(value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            if (Double.isNaN(fieldValue) || Double.isInfinite(fieldValue)) {
+                // type adapter knows, whether special values are allowed
+                doubleAdapter.write(writer, fieldValue);
+            } else {
+                writer.value(fieldValue);
+            }
+        }
+
+        @Override
+        void read(JsonReader reader, Object value) throws IOException {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return;
+            }
+            double fieldValue = reader.nextDouble();
+            try {
+                setter.invokeExact(value, fieldValue);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    private static final class BooleanField extends BoundField {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        BooleanField(String name, Field field, boolean serialize, boolean deserialize,
+                     MethodHandle getter, MethodHandle setter) {
+            super(name, field, serialize, deserialize, TypeAdapters.BOOLEAN);
+            this.getter = getter.asType(MethodType.methodType(boolean.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+        }
+
+        @Override
+        Object get(Object instance) {
+            try {
+                return (boolean) getter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        boolean writeField(Object value) {
+            return serialized;
+        }
+
+        @Override
+        void write(JsonWriter writer, Object value) throws IOException {
+            boolean fieldValue;
+            try {
+                fieldValue = (boolean) getter.invokeExact(value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            writer.value(fieldValue);
+        }
+
+        @Override
+        void read(JsonReader reader, Object value) throws IOException {
+            JsonToken token = reader.peek();
+            if (token == JsonToken.NULL) {
+                reader.nextNull();
+                return;
+            }
+            boolean fieldValue = token == JsonToken.STRING
+                ? Boolean.parseBoolean(reader.nextString())
+                : reader.nextBoolean();
+            try {
+                setter.invokeExact(value, fieldValue);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+}
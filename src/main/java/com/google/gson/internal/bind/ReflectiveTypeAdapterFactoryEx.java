@@ -12,13 +12,16 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.*;
 
 /**
  * Hack.
  * This {@link TypeAdapterFactory} analog of {@link ReflectiveTypeAdapterFactory}.
- * Provides several public methods for custom field handling (by annotation).
+ * Provides several public methods for custom field handling (by annotation).<br/>
+ * Names, type adapters and {@link FieldBinding} of each field are resolved once per type,
+ * so conversion doesn't make any reflection lookups except field access.
  */
 public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFactory {
 
@@ -29,7 +32,37 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
     protected JsonAdapterAnnotationTypeAdapterFactory jsonAdapterFactory;
     protected final ReflectionAccessor accessor = ReflectionAccessor.getInstance();
 
-    private boolean isInited = false;
+    // set only before Gson is created, see setters
+    private boolean useMethodHandles = false;
+    private boolean fieldDrivenReading = false;
+
+    // written once under lock, so Gson internals are visible to all threads after check
+    private volatile boolean isInited = false;
+
+    /**
+     * Access fields via {@link java.lang.invoke.MethodHandle}s instead of {@link Field#get}/{@link Field#set}.
+     * Primitive int, long, double and boolean fields without handlers are written and read without boxing.
+     * Falls back to reflection for fields, which can't be accessed via method handles.
+     */
+    protected void setUseMethodHandles(boolean value) {
+        useMethodHandles = value;
+    }
+
+    public boolean isUseMethodHandles() {
+        return useMethodHandles;
+    }
+
+    /**
+     * Read objects from {@link KeyLookup} readers by bound fields instead of keys:
+     * each field name is looked up directly, so unknown keys are never visited.
+     */
+    protected void setFieldDrivenReading(boolean value) {
+        fieldDrivenReading = value;
+    }
+
+    public boolean isFieldDrivenReading() {
+        return fieldDrivenReading;
+    }
 
     @SuppressWarnings("unchecked")
     private <I, T> T getFieldValue(I instance, String fieldName) throws NoSuchFieldException, IllegalAccessException {
@@ -38,6 +71,19 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
         return (T) field.get(instance);
     }
 
+    /**
+     * @return true, if {@link InstanceCreator} for {@code type} is registered in {@code gson}
+     */
+    protected boolean hasInstanceCreator(Gson gson, TypeToken<?> type) {
+        Map<Type, InstanceCreator<?>> instanceCreators;
+        try {
+            instanceCreators = getFieldValue(gson, "instanceCreators");
+        } catch (Exception e) {
+            throw new Error("Used unsupported Gson version");
+        }
+        return instanceCreators.containsKey(type.getType()) || instanceCreators.containsKey(type.getRawType());
+    }
+
     private void init(Gson gson) {
         try {
             this.gson = gson;
@@ -54,24 +100,52 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
 
     @Override
     public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
-        if (!isInited) {
-            init(gson);
-            isInited = true;
-        }
-
         Class<? super T> raw = type.getRawType();
 
         if (!Object.class.isAssignableFrom(raw)) {
             return null; // it's a primitive!
         }
 
+        TypeAdapter<T> generated = createGenerated(gson, type);
+        if (generated != null) {
+            return generated;
+        }
+
+        // Gson internals are needed only for reflective adapters
+        if (!isInited) {
+            synchronized (this) {
+                if (!isInited) {
+                    init(gson);
+                    isInited = true;
+                }
+            }
+        }
+
         TypeAdapter<T> another = gson.getDelegateAdapter(this, type);
         if (!(another instanceof ReflectiveTypeAdapterFactory.Adapter)) {
             return another;
         }
 
         ObjectConstructor<T> constructor = constructorConstructor.get(type);
-        return new ReflectiveTypeAdapterFactoryEx.Adapter<>(constructor, getBoundFields(gson, type, raw));
+        return new ReflectiveTypeAdapterFactoryEx.Adapter<>(constructor, getBoundFields(gson, type, raw),
+            fieldDrivenReading);
+    }
+
+    /**
+     * Creates type adapter, which doesn't use reflection, for {@code type}.
+     * Called before any reflective analysis of {@code type}, adapter is used instead of delegate adapter.
+     *
+     * @return type adapter or null, if {@code type} is bound by reflection
+     */
+    protected <T> TypeAdapter<T> createGenerated(Gson gson, TypeToken<T> type) {
+        return null;
+    }
+
+    /**
+     * @return adapter, which writes value by adapter of its runtime type, as reflective adapter writes fields
+     */
+    public static <T> TypeAdapter<T> runtimeTypeAdapter(Gson gson, TypeAdapter<T> adapter, Type type) {
+        return new TypeAdapterRuntimeTypeWrapper<>(gson, adapter, type);
     }
 
     public boolean excludeField(Field f, boolean serialize) {
@@ -84,6 +158,26 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
     public abstract Object readField(JsonReader reader, TypeAdapter adapter, Field field)
         throws IOException;
 
+    /**
+     * Creates {@link FieldBinding} for {@code field}. Called once per field, when type adapter is created.
+     * By default, delegates to {@link #writeField} and {@link #readField}.
+     *
+     * @return binding for {@code field} or null, if field is written and read by its type adapter only
+     */
+    protected FieldBinding bindField(Field field) {
+        return new FieldBinding() {
+            @Override
+            public void write(JsonWriter writer, TypeAdapter<Object> adapter, Object value) throws IOException {
+                writeField(writer, adapter, field, value);
+            }
+
+            @Override
+            public Object read(JsonReader reader, TypeAdapter<Object> adapter) throws IOException {
+                return readField(reader, adapter, field);
+            }
+        };
+    }
+
     private List<String> getFieldNames(Field f) {
         SerializedName annotation = f.getAnnotation(SerializedName.class);
         if (annotation == null) {
@@ -106,7 +200,7 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
     @SuppressWarnings("unchecked")
     private BoundField createBoundField(
         Gson context, Field field, String name,
-        TypeToken<?> fieldType, boolean serialize, boolean deserialize) {
+        TypeToken<?> fieldType, boolean serialize, boolean deserialize, FieldBinding binding) {
         boolean isPrimitive = Primitives.isPrimitive(fieldType.getRawType());
         // special casing primitives here saves ~5% on Android...
         JsonAdapter annotation = field.getAnnotation(JsonAdapter.class);
@@ -119,22 +213,36 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
             mapped = context.getAdapter(fieldType);
         }
 
-        TypeAdapter<?> typeAdapter = mapped;
-        return new BoundField(name, serialize, deserialize) {
+        TypeAdapter<Object> readAdapter = (TypeAdapter<Object>) mapped;
+        // wrapper is stateless, so it is shared by all writes
+        TypeAdapter<Object> writeAdapter = jsonAdapterPresent ? readAdapter
+            : new TypeAdapterRuntimeTypeWrapper<>(context, readAdapter, fieldType.getType());
+        if (useMethodHandles) {
+            BoundField bound = BoundFieldHandles.create(field, name, serialize, deserialize,
+                binding, readAdapter, writeAdapter);
+            if (bound != null) {
+                return bound;
+            }
+        }
+        FieldBinding fieldBinding = binding != null ? binding : FieldBinding.DIRECT;
+        return new BoundField(name, field, serialize, deserialize, readAdapter) {
+            @Override
+            Object get(Object value) throws IllegalAccessException {
+                return field.get(value);
+            }
+
             // the type adapter and field type always agree
             @Override
             void write(JsonWriter writer, Object value)
                 throws IOException, IllegalAccessException {
                 Object fieldValue = field.get(value);
-                TypeAdapter t = jsonAdapterPresent ? typeAdapter
-                    : new TypeAdapterRuntimeTypeWrapper(context, typeAdapter, fieldType.getType());
-                ReflectiveTypeAdapterFactoryEx.this.writeField(writer, t, field, fieldValue);
+                fieldBinding.write(writer, writeAdapter, fieldValue);
             }
 
             @Override
             void read(JsonReader reader, Object value)
                 throws IOException, IllegalAccessException {
-                Object fieldValue = readField(reader, typeAdapter, field);
+                Object fieldValue = fieldBinding.read(reader, readAdapter);
                 if (fieldValue != null || !isPrimitive) {
                     field.set(value, fieldValue);
                 }
@@ -169,6 +277,8 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
                 accessor.makeAccessible(field);
                 Type fieldType = $Gson$Types.resolve(type.getType(), raw, field.getGenericType());
                 List<String> fieldNames = getFieldNames(field);
+                TypeToken<?> fieldTypeToken = TypeToken.get(fieldType);
+                FieldBinding binding = bindField(field);
                 BoundField previous = null;
                 for (int i = 0, size = fieldNames.size(); i < size; ++i) {
                     String name = fieldNames.get(i);
@@ -176,7 +286,7 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
                         serialize = false; // only serialize the default name
                     }
                     BoundField boundField = createBoundField(context, field, name,
-                        TypeToken.get(fieldType), serialize, deserialize);
+                        fieldTypeToken, serialize, deserialize, binding);
                     BoundField replaced = result.put(name, boundField);
                     if (previous == null) {
                         previous = replaced;
@@ -193,16 +303,59 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
         return result;
     }
 
+    /**
+     * Field specific writing and reading, resolved once per field.
+     */
+    public interface FieldBinding {
+        /**
+         * Binding for fields without handlers.
+         */
+        FieldBinding DIRECT = new FieldBinding() {
+            @Override
+            public void write(JsonWriter writer, TypeAdapter<Object> adapter, Object value) throws IOException {
+                adapter.write(writer, value);
+            }
+
+            @Override
+            public Object read(JsonReader reader, TypeAdapter<Object> adapter) throws IOException {
+                return adapter.read(reader);
+            }
+        };
+
+        void write(JsonWriter writer, TypeAdapter<Object> adapter, Object value) throws IOException;
+
+        Object read(JsonReader reader, TypeAdapter<Object> adapter) throws IOException;
+    }
+
+    /**
+     * {@link JsonReader}, which can select value of current object by name.
+     */
+    public interface KeyLookup {
+        /**
+         * Moves to value with specific {@code name} of object, which was begun by last
+         * {@link JsonReader#beginObject()}. After that object can't be iterated by {@link JsonReader#nextName()}.
+         *
+         * @return true, if value is present and can be read now
+         */
+        boolean selectName(String name) throws IOException;
+    }
+
     public static abstract class BoundField {
         final String name;
+        final Field field;
         final boolean serialized;
         final boolean deserialized;
+        final TypeAdapter<?> typeAdapter;
 
-        protected BoundField(String name, boolean serialized, boolean deserialized) {
+        protected BoundField(String name, Field field, boolean serialized, boolean deserialized,
+                             TypeAdapter<?> typeAdapter) {
             this.name = name;
+            this.field = field;
             this.serialized = serialized;
             this.deserialized = deserialized;
+            this.typeAdapter = typeAdapter;
         }
+        abstract Object get(Object value) throws IllegalAccessException;
         abstract boolean writeField(Object value) throws IOException, IllegalAccessException;
         abstract void write(JsonWriter writer, Object value) throws IOException, IllegalAccessException;
         abstract void read(JsonReader reader, Object value) throws IOException, IllegalAccessException;
@@ -211,10 +364,129 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
     public static final class Adapter<T> extends TypeAdapter<T> {
         private final ObjectConstructor<T> constructor;
         private final Map<String, BoundField> boundFields;
+        private final BoundField[] serializedFields;
+        // null, if fields are read in order of keys
+        private final BoundField[] deserializedFields;
+        // resolved on first copy
+        private volatile Field[] instanceFields;
 
-        Adapter(ObjectConstructor<T> constructor, Map<String, BoundField> boundFields) {
+        Adapter(ObjectConstructor<T> constructor, Map<String, BoundField> boundFields, boolean fieldDriven) {
             this.constructor = constructor;
             this.boundFields = boundFields;
+            List<BoundField> serialized = new ArrayList<>(boundFields.size());
+            List<BoundField> deserialized = new ArrayList<>(boundFields.size());
+            for (BoundField it : boundFields.values()) {
+                if (it.serialized) {
+                    serialized.add(it);
+                }
+                if (it.deserialized) {
+                    deserialized.add(it);
+                }
+            }
+            this.serializedFields = serialized.toArray(new BoundField[0]);
+            this.deserializedFields = fieldDriven ? deserialized.toArray(new BoundField[0]) : null;
+        }
+
+        /**
+         * @return names of deserialized fields, including alternate names
+         */
+        public Set<String> getFieldNames() {
+            Set<String> names = new LinkedHashSet<>();
+            for (BoundField it : boundFields.values()) {
+                if (it.deserialized) {
+                    names.add(it.name);
+                }
+            }
+            return names;
+        }
+
+        /**
+         * @return type adapter of field with specific {@code name}
+         */
+        public TypeAdapter<?> getFieldAdapter(String name) {
+            return getBoundField(name).typeAdapter;
+        }
+
+        /**
+         * @return value of field with specific {@code name}
+         */
+        public Object getFieldValue(T instance, String name) {
+            try {
+                return getBoundField(name).get(instance);
+            } catch (IllegalAccessException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        /**
+         * Reads value of field with specific {@code name} from {@code in} and sets it to {@code instance}.
+         * Field handlers are applied as in {@link #read(JsonReader)}.
+         */
+        public void readFieldValue(JsonReader in, T instance, String name) throws IOException {
+            try {
+                getBoundField(name).read(in, instance);
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            } catch (IllegalAccessException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        /**
+         * Sets {@code value} to field with specific {@code name} as is, without field handlers.
+         */
+        public void setFieldValue(T instance, String name, Object value) {
+            try {
+                getBoundField(name).field.set(instance, value);
+            } catch (IllegalAccessException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        /**
+         * Creates shallow copy of {@code instance}: all its instance fields, including not bound ones, are copied.
+         *
+         * @return copy or null, if {@code instance} is not created by this adapter, for example it is of subclass
+         */
+        public T copy(T instance) {
+            T copy = constructor.construct();
+            if (copy.getClass() != instance.getClass()) {
+                return null;
+            }
+            try {
+                for (Field it : getInstanceFields(copy.getClass())) {
+                    it.set(copy, it.get(instance));
+                }
+            } catch (IllegalAccessException e) {
+                throw new AssertionError(e);
+            }
+            return copy;
+        }
+
+        private Field[] getInstanceFields(Class<?> raw) {
+            Field[] fields = instanceFields;
+            if (fields == null) {
+                List<Field> list = new ArrayList<>();
+                for (Class<?> it = raw; it != Object.class; it = it.getSuperclass()) {
+                    for (Field field : it.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers())) {
+                            ReflectionAccessor.getInstance().makeAccessible(field);
+                            list.add(field);
+                        }
+                    }
+                }
+                fields = list.toArray(new Field[0]);
+                instanceFields = fields; // fields are the same for any thread, so race is harmless
+            }
+            return fields;
+        }
+
+        private BoundField getBoundField(String name) {
+            BoundField field = boundFields.get(name);
+            if (field == null || !field.deserialized) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            return field;
         }
 
         @Override public T read(JsonReader in) throws IOException {
@@ -227,6 +499,14 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
 
             try {
                 in.beginObject();
+                if (deserializedFields != null && in instanceof KeyLookup) {
+                    KeyLookup lookup = (KeyLookup) in;
+                    for (BoundField field : deserializedFields) {
+                        if (lookup.selectName(field.name)) {
+                            field.read(in, instance);
+                        }
+                    }
+                }
                 while (in.hasNext()) {
                     String name = in.nextName();
                     BoundField field = boundFields.get(name);
@@ -253,7 +533,7 @@ public abstract class ReflectiveTypeAdapterFactoryEx implements TypeAdapterFacto
 
             out.beginObject();
             try {
-                for (BoundField boundField : boundFields.values()) {
+                for (BoundField boundField : serializedFields) {
                     if (boundField.writeField(value)) {
                         out.name(boundField.name);
                         boundField.write(out, value);
@@ -0,0 +1,44 @@
+package com.github.dahaka934.jhocon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Helper for tests, which use one shared instance from several threads.
+ */
+final class Concurrency {
+    interface Task {
+        void run(int thread) throws Exception;
+    }
+
+    private Concurrency() {}
+
+    /**
+     * Runs {@code task} by {@code threads} threads, which start at the same time.
+     * Assertion errors and exceptions of threads are rethrown.
+     */
+    static void runConcurrently(int threads, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; ++t) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            for (Future<?> it : futures) {
+                it.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
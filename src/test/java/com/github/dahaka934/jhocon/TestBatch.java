@@ -0,0 +1,67 @@
+package com.github.dahaka934.jhocon;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class TestBatch extends Assert {
+    static class Section {
+        int value;
+        List<String> names;
+    }
+
+    private static final String HOCON = ""
+        + "base = 10\n"
+        + "first { value = ${base}, names = [a, b] }\n"
+        + "second { value = 20, names = [] }\n"
+        + "numbers = [1, 2, 3]\n";
+
+    private static Map<String, Type> types() {
+        Map<String, Type> types = new LinkedHashMap<>();
+        types.put("second", Section.class);
+        types.put("first", Section.class);
+        types.put("numbers", new TypeToken<List<Integer>>() {
+        }.getType());
+        return types;
+    }
+
+    private static void check(Map<String, Object> result) {
+        assertEquals(Arrays.asList("second", "first", "numbers"), new ArrayList<>(result.keySet()));
+        assertEquals(10, ((Section) result.get("first")).value);
+        assertEquals(Arrays.asList("a", "b"), ((Section) result.get("first")).names);
+        assertEquals(20, ((Section) result.get("second")).value);
+        assertEquals(Arrays.asList(1, 2, 3), result.get("numbers"));
+    }
+
+    @Test
+    public void testBatch() {
+        JHocon jhocon = new JHoconBuilder().create();
+        check(jhocon.fromHocon(HOCON, types()));
+    }
+
+    @Test
+    public void testBatchParallel() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().create();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            check(jhocon.fromHocon(HOCON, types(), executor));
+
+            Map<String, Type> types = types();
+            types.put("missing", Section.class);
+            try {
+                jhocon.fromHocon(HOCON, types, executor);
+                fail();
+            } catch (JsonSyntaxException e) {
+                // expected
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.annotations.Comment;
+import com.github.dahaka934.jhocon.annotations.ValidatorRange;
+import com.github.dahaka934.jhocon.annotations.ValidatorStringList;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerComment;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestConcurrency extends Assert {
+    private static final int THREADS = 32;
+
+    static class Item {
+        @Comment("item name")
+        @ValidatorStringList(value = {"reserved"}, invert = true)
+        public String name;
+        @Comment
+        @ValidatorRange(min = 0, max = 1000000)
+        public int count;
+        public List<Integer> values = new ArrayList<>();
+
+        Item() {}
+
+        Item(int i) {
+            name = "item" + i;
+            count = i;
+            for (int j = 0; j < i % 8; ++j) {
+                values.add(i + j);
+            }
+        }
+    }
+
+    static class Order {
+        public String id;
+        public List<Item> items = new ArrayList<>();
+
+        Order() {}
+
+        Order(int i) {
+            id = "order" + i;
+            for (int j = 0; j < 4; ++j) {
+                items.add(new Item(i * 10 + j));
+            }
+        }
+    }
+
+    private static void assertOrder(int i, Order order) {
+        assertEquals("order" + i, order.id);
+        assertEquals(4, order.items.size());
+        for (int j = 0; j < 4; ++j) {
+            Item item = order.items.get(j);
+            assertEquals("item" + (i * 10 + j), item.name);
+            assertEquals(i * 10 + j, item.count);
+            assertEquals(new Item(i * 10 + j).values, item.values);
+        }
+    }
+
+    /**
+     * Each thread converts own objects by one shared instance, starting with its first conversion.
+     */
+    private static void hammer(JHocon jhocon) throws Exception {
+        Concurrency.runConcurrently(THREADS, thread -> {
+            for (int n = 0; n < 20; ++n) {
+                int i = thread * 1000 + n;
+                String hocon = jhocon.toHocon("order", new Order(i));
+                assertTrue(hocon.contains("# item name"));
+                assertOrder(i, jhocon.fromHocon(hocon, "order", Order.class));
+                assertOrder(i, jhocon.fromHocon(jhocon.toConfigValue(new Order(i)), Order.class));
+            }
+        });
+    }
+
+    @Test
+    public void testSharedInstance() throws Exception {
+        for (int round = 0; round < 3; ++round) {
+            hammer(new JHoconBuilder().withComments().registerDefaultValidators().create());
+            hammer(new JHoconBuilder().withComments().registerDefaultValidators().withPooling().create());
+        }
+    }
+
+    @Test
+    public void testRegistriesAreFrozen() {
+        JHoconBuilder builder = new JHoconBuilder().withComments().registerDefaultValidators();
+        builder.create();
+        try {
+            builder.registerFieldHandler(new FieldHandlerComment());
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        try {
+            builder.registerDefaultValidators();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+
+        // settings are captured by create()
+        JHReflectTypeAdapterFactory factory = new JHReflectTypeAdapterFactory();
+        new JHoconBuilder().registerReflectTypeAdapterFactory(factory).withMethodHandleAccessors().create();
+        assertTrue(factory.isUseMethodHandles());
+        try {
+            factory.setFieldDrivenReading(true);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+}
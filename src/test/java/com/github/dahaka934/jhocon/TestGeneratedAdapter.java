@@ -0,0 +1,159 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.annotations.*;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerValidator;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidator;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.InstanceCreator;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactoryEx;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TestGeneratedAdapter extends Assert {
+    public static class EvenValidator implements FieldValidator {
+        @Override
+        public boolean isValid(Field field, Object value) {
+            return !(value instanceof Integer) || (Integer) value % 2 == 0;
+        }
+
+        @Override
+        public String getComment(Field field, Object value) {
+            return "even number";
+        }
+    }
+
+    static class Base {
+        @Comment("base value")
+        public int base = 1;
+    }
+
+    @GenerateAdapter
+    static class Server extends Base {
+        @Comment("server host")
+        @ValidatorStringList({"localhost", "example.com"})
+        public String host = "localhost";
+        @Comment
+        @ValidatorRange(min = 1, max = 65535)
+        public int port = 8080;
+        @ValidatorDoubleRange(min = 0.0, max = 1.0)
+        public double ratio = 0.5;
+        @SerializedName(value = "tags", alternate = {"labels"})
+        public List<String> tags = new ArrayList<>(Arrays.asList("a", "b"));
+        @ValidatorCustom(EvenValidator.class)
+        @ValidatorRange(min = 0, max = 100)
+        public int even = 2;
+        public Object any = "text";
+        public Server backup;
+        public transient int ignored = 7;
+    }
+
+    private static JHocon create(boolean generated, boolean commentsFirst) {
+        JHoconBuilder builder = new JHoconBuilder();
+        if (commentsFirst) {
+            builder.withComments().registerDefaultValidators();
+        } else {
+            builder.registerDefaultValidators().withComments();
+        }
+        if (generated) {
+            builder.withGeneratedAdapters();
+        }
+        return builder.create();
+    }
+
+    private static Server server() {
+        Server server = new Server();
+        server.backup = new Server();
+        server.backup.host = "example.com";
+        server.backup.port = 9090;
+        return server;
+    }
+
+    @Test
+    public void testGeneratedAdapterIsUsed() {
+        TypeAdapter<?> adapter = create(true, true).gson.getAdapter(Server.class);
+        assertTrue(adapter.getClass().getName().endsWith("Server_JHoconAdapter$Adapter"));
+        // class without generated adapter is still bound by reflection
+        adapter = create(true, true).gson.getAdapter(Base.class);
+        assertTrue(adapter instanceof ReflectiveTypeAdapterFactoryEx.Adapter);
+    }
+
+    @Test
+    public void testSameAsReflective() {
+        for (boolean commentsFirst : new boolean[]{true, false}) {
+            JHocon generated = create(true, commentsFirst);
+            JHocon reflective = create(false, commentsFirst);
+            String hocon = reflective.toHocon("root", server());
+            assertEquals(hocon, generated.toHocon("root", server()));
+
+            Server obj = generated.fromHocon(hocon, "root", Server.class);
+            assertEquals(hocon, reflective.toHocon("root", obj));
+        }
+    }
+
+    @Test
+    public void testReading() {
+        JHocon jhocon = create(true, true);
+        Server obj = jhocon.fromHocon("root { host = example.com, labels = [x], port = 80, unknown = 1 }",
+            "root", Server.class);
+        assertEquals("example.com", obj.host);
+        assertEquals(Arrays.asList("x"), obj.tags);
+        assertEquals(80, obj.port);
+        assertEquals(1, obj.base);
+        assertNull(obj.backup);
+        assertEquals(7, obj.ignored);
+    }
+
+    @Test
+    public void testValidation() {
+        JHocon jhocon = create(true, true);
+        for (String hocon : new String[]{"root.port = 0", "root.host = other", "root.ratio = 2", "root.even = 3",
+            "root.even = 102"}) {
+            boolean error = false;
+            try {
+                jhocon.fromHocon(hocon, "root", Server.class);
+            } catch (FieldHandlerValidator.Exception e) {
+                error = true;
+            }
+            assertTrue(hocon, error);
+        }
+
+        jhocon = new JHoconBuilder().registerDefaultValidators().throwErrorOnValidationFail(false)
+            .withGeneratedAdapters().create();
+        Server obj = jhocon.fromHocon("root { port = 0, host = other, even = 3 }", "root", Server.class);
+        assertEquals(8080, obj.port);
+        assertEquals(2, obj.even);
+        assertNull(obj.host);
+    }
+
+    @Test
+    public void testFallbackToReflection() {
+        JHoconBuilder builder = new JHoconBuilder().withGeneratedAdapters();
+        builder.gsonBuilder.setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE);
+        JHocon jhocon = builder.create();
+        assertTrue(jhocon.gson.getAdapter(Server.class) instanceof ReflectiveTypeAdapterFactoryEx.Adapter);
+        assertTrue(jhocon.toHocon("root", new Server()).contains("Host"));
+
+        // custom field handler can't be reproduced by generated adapter
+        jhocon = new JHoconBuilder().withGeneratedAdapters()
+            .registerFieldHandler((writer, field, value) -> value).create();
+        assertTrue(jhocon.gson.getAdapter(Server.class) instanceof ReflectiveTypeAdapterFactoryEx.Adapter);
+
+        // objects are created by registered instance creator
+        builder = new JHoconBuilder().withGeneratedAdapters();
+        builder.gsonBuilder.registerTypeAdapter(Server.class, (InstanceCreator<Server>) type -> {
+            Server server = new Server();
+            server.port = 42;
+            return server;
+        });
+        jhocon = builder.create();
+        assertTrue(jhocon.gson.getAdapter(Server.class) instanceof ReflectiveTypeAdapterFactoryEx.Adapter);
+        assertEquals(42, jhocon.fromHocon("root { host = example.com }", "root", Server.class).port);
+    }
+}
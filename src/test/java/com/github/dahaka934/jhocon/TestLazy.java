@@ -0,0 +1,119 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.annotations.ValidatorRange;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerValidator;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.annotations.SerializedName;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class TestLazy extends Assert {
+    public interface Root {
+        String getName();
+
+        boolean isEnabled();
+
+        int port();
+
+        @SerializedName("server-options")
+        Server server();
+
+        List<Server> getServers();
+
+        Map<String, Server> routes();
+
+        List<Integer> numbers();
+
+        Broken broken();
+
+        String missing();
+
+        default int portOr(int fallback) {
+            return port() > 0 ? port() : fallback;
+        }
+    }
+
+    public interface Server {
+        String host();
+
+        int port();
+
+        Limits limits();
+
+        default String address() {
+            return host() + ":" + port();
+        }
+    }
+
+    static class Limits {
+        @ValidatorRange(min = 0, max = 10)
+        int size;
+    }
+
+    static class Broken {
+        int value;
+    }
+
+    private static final String HOCON = ""
+        + "root {\n"
+        + "  name = service, enabled = true, port = 80\n"
+        + "  server-options { host = localhost, port = 8080 }\n"
+        + "  servers = [{ host = a, port = 1 }, { host = b, port = 2, limits { size = 20 } }]\n"
+        + "  routes { first { host = c, port = 3 } }\n"
+        + "  numbers = [1, 2, 3]\n"
+        + "  broken { value = not-a-number }\n"
+        + "}\n";
+
+    @Test
+    public void testLazy() {
+        JHocon jhocon = new JHoconBuilder().create();
+        Root root = jhocon.fromHoconLazy(HOCON, "root", Root.class);
+
+        assertEquals("service", root.getName());
+        assertTrue(root.isEnabled());
+        assertEquals(80, root.port());
+        assertEquals("localhost", root.server().host());
+        assertEquals(8080, root.server().port());
+        assertSame(root.server(), root.server());
+        assertEquals("b", root.getServers().get(1).host());
+        assertEquals(3, root.routes().get("first").port());
+        assertEquals(Arrays.asList(1, 2, 3), root.numbers());
+        assertSame(root.numbers(), root.numbers());
+        assertNull(root.missing());
+
+        // broken value is bound only on access
+        try {
+            root.broken();
+            fail();
+        } catch (JsonSyntaxException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDefaultMethods() {
+        JHocon jhocon = new JHoconBuilder().create();
+        Root root = jhocon.fromHoconLazy(HOCON, "root", Root.class);
+
+        assertEquals("localhost:8080", root.server().address());
+        assertEquals("a:1", root.getServers().get(0).address());
+        assertEquals(80, root.portOr(443));
+    }
+
+    @Test
+    public void testNestedPath() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().create();
+        Root root = jhocon.fromHoconLazy(HOCON, "root", Root.class);
+
+        try {
+            root.getServers().get(1).limits();
+            fail();
+        } catch (FieldHandlerValidator.Exception e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("'.servers[1].limits.size'"));
+        }
+    }
+}
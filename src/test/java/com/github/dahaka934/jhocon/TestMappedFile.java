@@ -0,0 +1,121 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.reader.MappedFileReader;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class TestMappedFile extends Assert {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    static class Settings {
+        String name;
+        List<Integer> values;
+        Map<String, String> included;
+    }
+
+    private static String readAll(Reader reader, int bufferSize) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[bufferSize];
+        int read;
+        while ((read = reader.read(buffer, 0, bufferSize)) >= 0) {
+            builder.append(buffer, 0, read);
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void testReader() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; ++i) {
+            builder.append("ascii \u0442\u0435\u043a\u0441\u0442 \uD83D\uDE00 ").append(i).append('\n');
+        }
+        String text = builder.toString();
+        Path file = folder.newFile("text.conf").toPath();
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+
+        for (int bufferSize : new int[]{1, 2, 7, 8192}) {
+            try (Reader reader = new MappedFileReader(file, StandardCharsets.UTF_8, 17)) {
+                assertEquals(text, readAll(reader, bufferSize));
+            }
+        }
+        try (Reader reader = new MappedFileReader(file)) {
+            assertEquals(text, readAll(reader, 8192));
+        }
+
+        Files.write(file, new byte[]{'a', (byte) 0xC3, 'b'});
+        try (Reader reader = new MappedFileReader(file)) {
+            readAll(reader, 16);
+            fail();
+        } catch (IOException e) {
+            // malformed input
+        }
+
+        Files.write(file, new byte[0]);
+        try (Reader reader = new MappedFileReader(file)) {
+            assertEquals(-1, reader.read(new char[4], 0, 4));
+        }
+
+        // reading past the end of file is repeatable
+        Files.write(file, new byte[]{'a'});
+        try (Reader reader = new MappedFileReader(file)) {
+            assertEquals("a", readAll(reader, 4));
+            assertEquals(-1, reader.read(new char[4], 0, 4));
+            assertEquals(-1, reader.read());
+        }
+    }
+
+    @Test
+    public void testFromHocon() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        Files.write(directory.resolve("included.conf"),
+            "settings.included { key = \u0437\u043d\u0430\u0447\u0435\u043d\u0438\u0435 }".getBytes(StandardCharsets.UTF_8));
+        Path file = directory.resolve("main.conf");
+        String hocon = "include \"included\"\nbase = 3\nsettings { name = \"\u0438\u043c\u044f\", values = [1, 2, ${base}] }";
+        Files.write(file, hocon.getBytes(StandardCharsets.UTF_8));
+
+        JHocon jhocon = new JHoconBuilder().create();
+        Settings settings = jhocon.fromHocon(file, "settings", Settings.class);
+        assertEquals("\u0438\u043c\u044f", settings.name);
+        assertEquals(3, (int) settings.values.get(2));
+        assertEquals("\u0437\u043d\u0430\u0447\u0435\u043d\u0438\u0435", settings.included.get("key"));
+
+        // streaming without Config tree
+        Path plain = directory.resolve("plain.conf");
+        Files.write(plain, "settings { name = \"\u0438\u043c\u044f\", values = [1, 2, 3] }".getBytes(StandardCharsets.UTF_8));
+        try (Reader reader = new MappedFileReader(plain)) {
+            Settings streamed = jhocon.fromHocon(reader, "settings", Settings.class);
+            assertEquals(settings.name, streamed.name);
+            assertEquals(settings.values, streamed.values);
+        }
+
+        // document without braces is read up to end of file
+        Path braceless = directory.resolve("braceless.conf");
+        Files.write(braceless, "a = 1\nb = 2".getBytes(StandardCharsets.UTF_8));
+        try (Reader reader = new MappedFileReader(braceless)) {
+            Type type = new TypeToken<Map<String, Integer>>() {}.getType();
+            Map<String, Integer> root = jhocon.fromHocon(reader, null, type);
+            assertEquals(2, (int) root.get("b"));
+        }
+
+        try {
+            jhocon.fromHocon(file, "missing", Settings.class);
+            fail();
+        } catch (JsonSyntaxException e) {
+            // expected
+        }
+    }
+}
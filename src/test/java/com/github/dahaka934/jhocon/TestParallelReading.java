@@ -0,0 +1,134 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.annotations.ValidatorRange;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerValidator;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import com.typesafe.config.ConfigValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class TestParallelReading extends Assert {
+    static class Rule {
+        String name;
+        int priority;
+        List<Integer> values;
+    }
+
+    static class Rules {
+        List<Rule> list = new ArrayList<>();
+        Map<String, Rule> map = new LinkedHashMap<>();
+        LinkedList<Integer> small = new LinkedList<>();
+    }
+
+    static class Item {
+        @ValidatorRange(min = 0, max = 10)
+        int v;
+    }
+
+    static class Items {
+        List<Item> items = new ArrayList<>();
+        Map<String, Item> byName = new LinkedHashMap<>();
+    }
+
+    private static String items(int invalid) {
+        StringBuilder hocon = new StringBuilder("root { items = [");
+        for (int i = 0; i < 200; ++i) {
+            hocon.append("{ v = ").append(i == invalid ? 20 : 1).append(" },");
+        }
+        hocon.append("], byName {");
+        for (int i = 0; i < 200; ++i) {
+            hocon.append("item").append(i).append(" { v = 1 },");
+        }
+        return hocon.append("} }").toString();
+    }
+
+    private static Rules create(int size) {
+        Rules rules = new Rules();
+        for (int i = 0; i < size; ++i) {
+            Rule rule = new Rule();
+            rule.name = "rule" + i;
+            rule.priority = i;
+            rule.values = Arrays.asList(i, i + 1);
+            rules.list.add(rule);
+            rules.map.put(rule.name, rule);
+        }
+        rules.small.add(1);
+        return rules;
+    }
+
+    @Test
+    public void testParallel() {
+        JHocon sequential = new JHoconBuilder().create();
+        JHocon parallel = new JHoconBuilder().withParallelReading(100, new ForkJoinPool(4)).create();
+        ConfigValue value = sequential.toConfigValue(create(5000));
+
+        Rules rules = parallel.fromHocon(value, Rules.class);
+        assertEquals(5000, rules.list.size());
+        assertEquals(5000, rules.map.size());
+        assertEquals(1, rules.small.size());
+        for (int i = 0; i < 5000; ++i) {
+            assertEquals(i, rules.list.get(i).priority);
+            assertEquals(Arrays.asList(i, i + 1), rules.list.get(i).values);
+        }
+        // order of keys is kept
+        assertEquals(new ArrayList<>(sequential.fromHocon(value, Rules.class).map.keySet()),
+            new ArrayList<>(rules.map.keySet()));
+        assertEquals(sequential.toConfigValue(rules), value);
+
+        Type type = new TypeToken<List<Rule>>() {}.getType();
+        List<Rule> list = parallel.fromHocon(sequential.toConfigValue(create(300).list), type);
+        assertEquals("rule299", list.get(299).name);
+    }
+
+    @Test
+    public void testParallelWriting() {
+        JHocon sequential = new JHoconBuilder().withComments().create();
+        JHocon parallel = new JHoconBuilder().withComments().withParallelReading(100, new ForkJoinPool(4)).create();
+        Rules rules = create(5000);
+        rules.map.put("empty", null);
+
+        ConfigValue value = parallel.toConfigValue(rules);
+        assertEquals(sequential.toConfigValue(rules), value);
+        assertEquals(sequential.toHocon("root", rules), parallel.toHocon("root", rules));
+
+        List<Object> objects = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            objects.add(i % 2 == 0 ? (Object) i : "text" + i);
+        }
+        assertEquals(sequential.toConfigValue(objects), parallel.toConfigValue(objects));
+    }
+
+    @Test(expected = JsonSyntaxException.class)
+    public void testInvalidElement() {
+        JHocon parallel = new JHoconBuilder().withParallelReading(10).create();
+        StringBuilder hocon = new StringBuilder("root = [");
+        for (int i = 0; i < 1000; ++i) {
+            hocon.append(i == 500 ? "wrong" : String.valueOf(i)).append(',');
+        }
+        hocon.append(']');
+        parallel.fromHocon(hocon.toString(), "root", new TypeToken<List<Integer>>() {}.getType());
+    }
+
+    @Test
+    public void testInvalidElementPath() {
+        JHocon parallel = new JHoconBuilder().registerDefaultValidators()
+            .withParallelReading(100, new ForkJoinPool(4)).create();
+        try {
+            parallel.fromHocon(items(150), "root", Items.class);
+            fail();
+        } catch (FieldHandlerValidator.Exception e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("'.items[150].v'"));
+        }
+        try {
+            parallel.fromHocon(items(-1).replace("item150 { v = 1 }", "item150 { v = 30 }"), "root", Items.class);
+            fail();
+        } catch (FieldHandlerValidator.Exception e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("'.byName.item150.v'"));
+        }
+    }
+}
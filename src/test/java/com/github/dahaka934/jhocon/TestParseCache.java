@@ -0,0 +1,93 @@
+package com.github.dahaka934.jhocon;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestParseCache extends Assert {
+    static class Section {
+        int value;
+        String name;
+    }
+
+    private static String document(int sections) {
+        StringBuilder builder = new StringBuilder("base = 10\n");
+        for (int i = 0; i < sections; ++i) {
+            builder.append("section").append(i)
+                .append(" { value = ${base}, name = \"section ").append(i).append("\" }\n");
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void testSections() {
+        JHocon jhocon = new JHoconBuilder().withParseCache(4).create();
+        String hocon = document(40);
+        for (int i = 0; i < 40; ++i) {
+            Section section = jhocon.fromHocon(hocon, "section" + i, Section.class);
+            assertEquals(10, section.value);
+            assertEquals("section " + i, section.name);
+        }
+    }
+
+    @Test
+    public void testParseOnce() throws Exception {
+        JHoconParseCache cache = new JHoconParseCache(4, Long.MAX_VALUE);
+        AtomicInteger parses = new AtomicInteger();
+        String hocon = document(100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Config>> results = new ArrayList<>();
+            for (int i = 0; i < 32; ++i) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(hocon, it -> {
+                        parses.incrementAndGet();
+                        return ConfigFactory.parseString(it).resolve();
+                    });
+                }));
+            }
+            start.countDown();
+            Config first = results.get(0).get();
+            for (Future<Config> it : results) {
+                assertSame(first, it.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, parses.get());
+    }
+
+    @Test
+    public void testEviction() {
+        JHoconParseCache cache = new JHoconParseCache(2, 100);
+        for (int i = 0; i < 5; ++i) {
+            cache.get("a = " + i, ConfigFactory::parseString);
+        }
+        assertEquals(2, cache.size());
+
+        String big = document(10);
+        assertTrue(big.length() > 100);
+        assertNotSame(cache.get(big, ConfigFactory::parseString), cache.get(big, ConfigFactory::parseString));
+
+        Config recent = cache.get("a = 4", ConfigFactory::parseString);
+        cache.get("b = 1", ConfigFactory::parseString);
+        assertSame(recent, cache.get("a = 4", ConfigFactory::parseString));
+
+        try {
+            cache.get("a = {", ConfigFactory::parseString);
+            fail();
+        } catch (RuntimeException e) {
+            // failures are not cached
+        }
+        assertEquals(2, cache.size());
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.reader.PathSelector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class TestPathSelector extends Assert {
+    static class Pool {
+        int size = -1;
+        int timeout = -1;
+    }
+
+    static class Db {
+        String url = "default";
+        Pool pool;
+    }
+
+    static class Host {
+        String name;
+        int port = -1;
+    }
+
+    static class Settings {
+        Db db;
+        Map<String, Integer> cache;
+        List<Host> hosts;
+        int broken = -1;
+    }
+
+    private static final String HOCON = ""
+        + "settings {\n"
+        + "  db { url = \"jdbc:test\", pool { size = 8, timeout = 30 } }\n"
+        + "  cache { a = 1, b = 2 }\n"
+        + "  hosts = [{ name = x, port = 1 }, { name = y, port = 2 }]\n"
+        + "  broken = not-a-number\n"
+        + "}\n";
+
+    @Test
+    public void testSelectedPaths() {
+        JHocon jhocon = new JHoconBuilder().create();
+        Settings settings = jhocon.fromHocon(HOCON, "settings", Settings.class,
+            PathSelector.of("db.pool.size", "cache.*", "hosts.name"));
+
+        // unselected broken value isn't read
+        assertEquals(-1, settings.broken);
+        assertEquals("default", settings.db.url);
+        assertEquals(8, settings.db.pool.size);
+        assertEquals(-1, settings.db.pool.timeout);
+        assertEquals(2, settings.cache.size());
+        assertEquals(2, (int) settings.cache.get("b"));
+        assertEquals("y", settings.hosts.get(1).name);
+        assertEquals(-1, settings.hosts.get(1).port);
+    }
+
+    @Test
+    public void testWildcard() {
+        JHocon jhocon = new JHoconBuilder().create();
+        Settings settings = jhocon.fromHocon(HOCON, "settings", Settings.class,
+            PathSelector.of("*.size", "*.pool.timeout", "db.url"));
+
+        assertEquals("jdbc:test", settings.db.url);
+        assertEquals(-1, settings.db.pool.size);
+        assertEquals(30, settings.db.pool.timeout);
+        assertTrue(settings.cache.isEmpty());
+        assertEquals(-1, settings.broken);
+
+        Settings all = jhocon.fromHocon(HOCON, "settings", Settings.class, PathSelector.of("db"));
+        assertEquals(8, all.db.pool.size);
+        assertEquals(30, all.db.pool.timeout);
+        assertNull(all.hosts);
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.TestSerialization.SimpleClass;
+import com.google.gson.JsonDeserializer;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public class TestPooling extends Assert {
+    static class Inner {
+        String value;
+    }
+
+    static class Outer {
+        Inner inner;
+        List<Map<String, int[]>> nested = new ArrayList<>();
+    }
+
+    @Test
+    public void testReuse() {
+        JHocon plain = new JHoconBuilder().withComments().create();
+        JHocon pooled = new JHoconBuilder().withComments().withPooling().create();
+
+        for (int i = 0; i < 3; ++i) {
+            SimpleClass obj = new SimpleClass();
+            if (i == 1) {
+                obj.reinit();
+            }
+            ConfigValue value = pooled.toConfigValue(obj);
+            assertEquals(plain.toConfigValue(obj), value);
+            assertEquals(plain.toHocon("root", obj), pooled.toHocon("root", obj));
+            assertEquals(plain.toHocon("root", plain.fromHocon(value, SimpleClass.class)),
+                pooled.toHocon("root", pooled.fromHocon(value, SimpleClass.class)));
+        }
+
+        Outer outer = new Outer();
+        for (int i = 0; i < 3; ++i) {
+            Map<String, int[]> map = new HashMap<>();
+            map.put("k" + i, new int[]{i, i + 1});
+            outer.nested.add(map);
+        }
+        ConfigValue value = pooled.toConfigValue(outer);
+        assertEquals(plain.toConfigValue(outer), value);
+        Outer newOuter = pooled.fromHocon(value, Outer.class);
+        assertArrayEquals(new int[]{2, 3}, newOuter.nested.get(2).get("k2"));
+    }
+
+    @Test
+    public void testNestedConversion() {
+        JHocon[] holder = new JHocon[1];
+        JHoconBuilder builder = new JHoconBuilder().withPooling();
+        // adapter converts other value, while pooled reader is in use
+        builder.gsonBuilder.registerTypeAdapter(Inner.class, (JsonDeserializer<Inner>) (json, type, context) -> {
+            Inner inner = new Inner();
+            inner.value = holder[0].fromHocon(ConfigValueFactory.fromAnyRef(json.getAsString()), String.class);
+            return inner;
+        });
+        holder[0] = builder.create();
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("inner", "text");
+        Outer outer = holder[0].fromHocon(ConfigValueFactory.fromMap(map), Outer.class);
+        assertEquals("text", outer.inner.value);
+    }
+
+    @Test
+    public void testThreads() throws Exception {
+        JHocon plain = new JHoconBuilder().create();
+        JHocon pooled = new JHoconBuilder().withPooling().create();
+        ConfigValue expected = plain.toConfigValue(new SimpleClass().reinit());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; ++i) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 100; ++j) {
+                        SimpleClass obj = pooled.fromHocon(expected, SimpleClass.class);
+                        if (!expected.equals(pooled.toConfigValue(obj))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> it : futures) {
+                assertTrue(it.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
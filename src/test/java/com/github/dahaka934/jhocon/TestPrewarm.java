@@ -0,0 +1,105 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.annotations.Comment;
+import com.github.dahaka934.jhocon.annotations.ValidatorRange;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestPrewarm extends Assert {
+    static class Address {
+        public String city = "city";
+    }
+
+    static class Person {
+        @Comment
+        @ValidatorRange(min = 0, max = 150)
+        public int age = 20;
+        public Address address = new Address();
+    }
+
+    static class Company {
+        public List<Person> staff = new ArrayList<>(Collections.singletonList(new Person()));
+    }
+
+    static class Broken {
+        public int value;
+        @SerializedName("value")
+        public int other;
+    }
+
+    /**
+     * Counts created adapters by type.
+     */
+    static class CountingFactory implements TypeAdapterFactory {
+        final Map<Type, AtomicInteger> created = new ConcurrentHashMap<>();
+
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            created.computeIfAbsent(type.getType(), k -> new AtomicInteger()).incrementAndGet();
+            return null;
+        }
+    }
+
+    private static JHocon create(CountingFactory counter, boolean parallel, Type... types) {
+        JHoconBuilder builder = new JHoconBuilder(new GsonBuilder().registerTypeAdapterFactory(counter))
+            .withComments().registerDefaultValidators().prewarm(types);
+        if (parallel) {
+            builder.withParallelPrewarm(new ForkJoinPool(4));
+        }
+        return builder.create();
+    }
+
+    @Test
+    public void testPrewarm() {
+        for (boolean parallel : new boolean[]{false, true}) {
+            CountingFactory counter = new CountingFactory();
+            Type listType = new TypeToken<List<Company>>() {}.getType();
+            JHocon jhocon = create(counter, parallel, Person.class, listType);
+
+            JHoconPrewarm report = jhocon.getPrewarmReport();
+            assertEquals(Arrays.asList(Person.class, listType), new ArrayList<>(report.nanosByType.keySet()));
+            assertTrue(report.totalNanos > 0);
+            assertTrue(report.toString().startsWith("prewarmed 2 types"));
+
+            // adapters of fields and elements are created too
+            assertNotNull(counter.created.get(Address.class));
+            assertNotNull(counter.created.get(Company.class));
+
+            Type[] reflective = {Person.class, Address.class, Company.class, listType};
+            int[] created = new int[reflective.length];
+            for (int i = 0; i < reflective.length; ++i) {
+                created[i] = counter.created.get(reflective[i]).get();
+            }
+            List<Company> value = Collections.singletonList(new Company());
+            String hocon = jhocon.toHocon("root", value, listType);
+            List<Company> result = jhocon.fromHocon(hocon, "root", listType);
+            assertEquals(20, result.get(0).staff.get(0).age);
+            // runtime type adapters may be created on writing, but reflective ones are not recreated
+            for (int i = 0; i < reflective.length; ++i) {
+                assertEquals(created[i], counter.created.get(reflective[i]).get());
+            }
+        }
+    }
+
+    @Test
+    public void testWithoutPrewarm() {
+        assertNull(new JHoconBuilder().create().getPrewarmReport());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBrokenType() {
+        create(new CountingFactory(), true, Person.class, Broken.class);
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.annotations.ValidatorRange;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerValidator;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TestReload extends Assert {
+    static class Root {
+        @ValidatorRange(min = 0, max = 100)
+        int number = 1;
+        String text = "text";
+        Child first = new Child();
+        Child second = new Child();
+        List<String> list = new ArrayList<>();
+    }
+
+    static class Child {
+        int value = 1;
+        String name = "child";
+    }
+
+    private static ConfigValue parse(String hocon) {
+        return ConfigFactory.parseString(hocon).root();
+    }
+
+    @Test
+    public void testReload() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().create();
+        String hocon = "number = 5, text = a, first { value = 2, name = x }, second { value = 3, name = y }, list = [a]";
+        ConfigValue value = parse(hocon);
+        Root root = jhocon.fromHocon(value, Root.class);
+        Child first = root.first;
+        Child second = root.second;
+
+        JHoconReload<Root> same = jhocon.reload(root, value, parse(hocon), Root.class);
+        assertSame(root, same.value);
+        assertFalse(same.isChanged());
+
+        ConfigValue newValue = parse(
+            "number = 6, text = a, first { value = 2, name = x }, second { value = 4, name = y }, list = [a, b]");
+        JHoconReload<Root> result = jhocon.reload(root, value, newValue, Root.class);
+        assertEquals(Arrays.asList("number", "second.value", "list"), result.changedPaths);
+        Root updated = result.value;
+        assertNotSame(root, updated);
+        assertSame(first, updated.first);
+        assertNotSame(second, updated.second);
+        assertEquals(6, updated.number);
+        assertEquals(4, updated.second.value);
+        assertEquals("y", updated.second.name);
+        assertEquals(Arrays.asList("a", "b"), updated.list);
+
+        // previous object is not modified
+        assertEquals(5, root.number);
+        assertSame(second, root.second);
+        assertEquals(3, second.value);
+        assertEquals(Arrays.asList("a"), root.list);
+
+        // removed field gets default value
+        result = jhocon.reload(updated, newValue, parse(
+            "number = 6, text = a, first { value = 2 }, second { value = 4, name = y }, list = [a, b]"),
+            Root.class);
+        assertEquals(Arrays.asList("first"), result.changedPaths);
+        assertNotSame(first, result.value.first);
+        assertEquals("child", result.value.first.name);
+        assertSame(updated.second, result.value.second);
+        assertEquals("x", first.name);
+
+        result = jhocon.reload(updated, newValue, parse("number = 6, first = null"), Root.class);
+        assertEquals(Arrays.asList(""), result.changedPaths);
+        assertNull(result.value.first);
+        assertEquals("text", result.value.text);
+    }
+
+    static class Derived extends Child {
+        int extra = 1;
+    }
+
+    @Test
+    public void testSubclass() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().create();
+        ConfigValue value = parse("number = 1, first { value = 2 }");
+        Root root = jhocon.fromHocon(value, Root.class);
+        root.first = new Derived();
+
+        // object of subclass can't be copied, so the field is read again
+        JHoconReload<Root> result = jhocon.reload(root, value, parse("number = 1, first { value = 3 }"), Root.class);
+        assertEquals(Arrays.asList("first"), result.changedPaths);
+        assertEquals(3, result.value.first.value);
+        assertTrue(root.first instanceof Derived);
+    }
+
+    @Test
+    public void testValidation() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().create();
+        ConfigValue value = parse("number = 1, text = text, first {}, second { value = 1 }, list = []");
+        Root root = jhocon.fromHocon(value, Root.class);
+        try {
+            jhocon.reload(root, value,
+                parse("number = 200, text = text, first {}, second { value = 5 }, list = []"), Root.class);
+            fail();
+        } catch (FieldHandlerValidator.Exception e) {
+            // previous object is not half-updated
+            assertEquals(1, root.second.value);
+            assertTrue(e.getMessage(), e.getMessage().contains("'.number'"));
+        }
+    }
+}
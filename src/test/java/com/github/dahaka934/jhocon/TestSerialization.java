@@ -1,11 +1,20 @@
 package com.github.dahaka934.jhocon;
 
+import com.github.dahaka934.jhocon.annotations.Comment;
+import com.github.dahaka934.jhocon.reader.JHoconReader;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
+import com.typesafe.config.ConfigValue;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +53,29 @@ public class TestSerialization extends Assert {
         String str = "some text";
     }
 
+    static class ArrayClass {
+        int[] ints = {1, -2, Integer.MAX_VALUE};
+        long[] longs = {Long.MIN_VALUE, 0L};
+        double[] doubles = {0.5, Double.NaN, 1e300};
+        int[] empty = {};
+        int[] nullArray = null;
+        Object[] mixed = {1, 2.5, "text"};
+        @Comment("array comment")
+        long[] commented = {7L, 8L};
+    }
+
+    static class PrimitiveClass {
+        int intValue = 1;
+        long longValue = Long.MAX_VALUE;
+        double doubleValue = 0.5;
+        double nanValue = Double.NaN;
+        boolean booleanValue = true;
+        final int finalValue = 2;
+        @Comment
+        int commented = 3;
+        SimpleSubClass object = new SimpleSubClass();
+    }
+
     @Test
     public void testNonGenericObject() {
         JHocon jhocon = new JHoconBuilder().create();
@@ -84,4 +116,117 @@ public class TestSerialization extends Assert {
 
         assertEquals(obj.size(), newObj.size());
     }
+
+    @Test
+    public void testNullValues() {
+        JHocon jhocon = new JHoconBuilder().create();
+        String hocon = "root { a = null, publicInt = 3, b = [null, 1], privateBoolean = null, intArray = [4] }";
+
+        SimpleClass obj = jhocon.fromHocon(hocon, "root", SimpleClass.class);
+        assertEquals(3, obj.publicInt);
+        assertNull(obj.privateBoolean);
+        assertArrayEquals(new int[]{4}, obj.intArray);
+    }
+
+    @Test
+    public void testConfigValueAndUnwrapped() {
+        JHocon jhocon = new JHoconBuilder().create();
+        ConfigValue value = jhocon.toConfigValue(new SimpleClass().reinit());
+
+        SimpleClass fromValue = jhocon.fromHocon(value, SimpleClass.class);
+        SimpleClass fromUnwrapped = jhocon.gson.fromJson(new JHoconReader(value.unwrapped()), SimpleClass.class);
+
+        assertEquals(value, jhocon.toConfigValue(fromValue));
+        assertEquals(value, jhocon.toConfigValue(fromUnwrapped));
+    }
+
+    @Test
+    public void testMethodHandleAccessors() {
+        JHocon reflect = new JHoconBuilder(new GsonBuilder().serializeSpecialFloatingPointValues())
+            .withComments().create();
+        JHocon handles = new JHoconBuilder(new GsonBuilder().serializeSpecialFloatingPointValues())
+            .withComments().withMethodHandleAccessors().create();
+        PrimitiveClass obj = new PrimitiveClass();
+        obj.intValue = -7;
+        obj.booleanValue = false;
+        obj.commented = 4;
+        obj.object.str = "other text";
+
+        String hocon = handles.toHocon("root", obj);
+        assertEquals(reflect.toHocon("root", obj), hocon);
+
+        PrimitiveClass newObj = handles.fromHocon(hocon, "root", PrimitiveClass.class);
+        assertEquals(obj.intValue, newObj.intValue);
+        assertEquals(obj.longValue, newObj.longValue);
+        assertEquals(obj.doubleValue, newObj.doubleValue, 0.0);
+        assertTrue(Double.isNaN(newObj.nanValue));
+        assertEquals(obj.booleanValue, newObj.booleanValue);
+        assertEquals(obj.commented, newObj.commented);
+        assertEquals(obj.object.str, newObj.object.str);
+        assertEquals(reflect.toHocon("root", newObj), handles.toHocon("root", newObj));
+    }
+
+    @Test
+    public void testPrimitiveArrays() {
+        JHocon jhocon = new JHoconBuilder(new GsonBuilder().serializeSpecialFloatingPointValues()).create();
+        ArrayClass obj = new ArrayClass();
+        obj.ints = new int[100];
+        for (int i = 0; i < obj.ints.length; ++i) {
+            obj.ints[i] = i * i;
+        }
+
+        String hocon = jhocon.toHocon("root", obj);
+        StringBuilder text = new StringBuilder();
+        jhocon.toHocon("root", obj, text);
+
+        for (ArrayClass newObj : Arrays.asList(
+            jhocon.fromHocon(hocon, "root", ArrayClass.class),
+            jhocon.<ArrayClass>fromHocon(new StringReader(text.toString()), "root", ArrayClass.class))) {
+            assertArrayEquals(obj.ints, newObj.ints);
+            assertArrayEquals(obj.longs, newObj.longs);
+            assertArrayEquals(obj.doubles, newObj.doubles, 0.0);
+            assertArrayEquals(obj.empty, newObj.empty);
+            assertNull(newObj.nullArray);
+            assertEquals(3, newObj.mixed.length);
+        }
+
+        // comment of array is attached to array, not to its elements
+        JHocon withComments = new JHoconBuilder(new GsonBuilder().serializeSpecialFloatingPointValues())
+            .withComments().create();
+        String commented = withComments.toHocon("root", obj);
+        assertTrue(commented.contains("# array comment"));
+        assertEquals(commented.indexOf("# array comment"), commented.lastIndexOf("# array comment"));
+        assertArrayEquals(obj.commented, withComments.fromHocon(commented, "root", ArrayClass.class).commented);
+
+        // custom adapters are not overridden
+        JHocon custom = new JHoconBuilder(new GsonBuilder().registerTypeAdapter(int[].class,
+            (JsonSerializer<int[]>) (src, type, context) -> new JsonPrimitive(src.length))).create();
+        assertEquals(3, custom.toConfigValue(new int[]{1, 2, 3}).unwrapped());
+    }
+
+    static class WideClass {
+        int first = -1;
+        @SerializedName(value = "second", alternate = "secondAlias")
+        String second;
+        SimpleSubClass sub;
+    }
+
+    @Test
+    public void testFieldDrivenReading() {
+        JHocon jhocon = new JHoconBuilder().withFieldDrivenReading().create();
+        StringBuilder hocon = new StringBuilder("root { first = 1, secondAlias = two, sub { str = text } }\n");
+        for (int i = 0; i < 1000; ++i) {
+            hocon.append("root.unknown").append(i).append(" = not-a-number\n");
+        }
+
+        WideClass obj = jhocon.fromHocon(hocon.toString(), "root", WideClass.class);
+        assertEquals(1, obj.first);
+        assertEquals("two", obj.second);
+        assertEquals("text", obj.sub.str);
+
+        // maps are still read by keys
+        Map<String, Object> map = jhocon.fromHocon(hocon.toString(), "root",
+            new TypeToken<Map<String, Object>>() {}.getType());
+        assertEquals(1003, map.size());
+    }
 }
@@ -0,0 +1,210 @@
+package com.github.dahaka934.jhocon;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.*;
+
+public class TestStreamReader extends Assert {
+    static class SimpleClass {
+        int number = 5;
+        String text = "text";
+        long bigNumber = Long.MAX_VALUE;
+        double fraction = 0.25;
+        Boolean flag = true;
+        String nullString = "not null";
+        int[][] matrix = new int[][]{{1, 2}, {3, 4}};
+        Map<String, String> special = new LinkedHashMap<>();
+        Map<Integer, Double> numberMap = new HashMap<>();
+        List<SimpleSubClass> objList = new ArrayList<>();
+
+        {
+            special.put("a.b", "dotted key");
+            special.put("empty", "");
+            special.put("bool", "true");
+            special.put("url", "http://localhost");
+            special.put("escaped", "\"quoted\"\n\ttab\\");
+            numberMap.put(1, 1.5);
+            numberMap.put(2, -2e10);
+            objList.add(new SimpleSubClass());
+            objList.add(new SimpleSubClass());
+        }
+    }
+
+    static class SimpleSubClass {
+        String str = "some text";
+        SimpleSubClass child;
+    }
+
+    private static void assertSameObject(JHocon jhocon, Object expected, Object actual) {
+        assertEquals(jhocon.toConfigValue(expected), jhocon.toConfigValue(actual));
+    }
+
+    private static <T> void assertSameAsTree(JHocon jhocon, String hocon, String path, Type type) {
+        T expected = jhocon.fromHocon(hocon, path, type);
+        T actual = jhocon.fromHocon(new StringReader(hocon), path, type);
+        assertSameObject(jhocon, expected, actual);
+    }
+
+    @Test
+    public void testSameAsTree() {
+        JHocon jhocon = new JHoconBuilder().withComments().create();
+        SimpleClass obj = new SimpleClass();
+        obj.objList.get(0).child = new SimpleSubClass();
+
+        String hocon = jhocon.toHocon("root", obj);
+        assertSameAsTree(jhocon, hocon, "root", SimpleClass.class);
+
+        StringBuilder builder = new StringBuilder();
+        jhocon.toHocon("root", obj, builder);
+        assertSameAsTree(jhocon, builder.toString(), "root", SimpleClass.class);
+
+        Type type = new TypeToken<List<SimpleSubClass>>() {
+        }.getType();
+        assertSameAsTree(jhocon, hocon, "root.objList", type);
+        assertSameAsTree(jhocon, hocon, "root.special.\"a.b\"", String.class);
+    }
+
+    @Test
+    public void testSyntax() {
+        JHocon jhocon = new JHoconBuilder().create();
+        String hocon = ""
+            + "// comment\n"
+            + "other { skipped = [1, {a = 2}, [3]], \"}\" = \"{\" }\n"
+            + "root {\n"
+            + "  number : 10 # comment\n"
+            + "  text = unquoted text with  spaces\n"
+            + "  bigNumber = 9223372036854775807, fraction = 1.5e-3\n"
+            + "  flag = false\n"
+            + "  special { \"a.b\" = \"\"\"triple \"quoted\" \\n\"\"\"\", url = \"http://localhost\" }\n"
+            + "  numberMap { 1 = 1, 2 = 2.5 }\n"
+            + "  matrix = [\n"
+            + "    [1\n"
+            + "      2],\n"
+            + "    []\n"
+            + "  ]\n"
+            + "  objList = [{ str: \"a\" }, { str = b, child.str = c }]\n"
+            + "}\n";
+
+        SimpleClass obj = jhocon.fromHocon(new StringReader(hocon), "root", SimpleClass.class);
+        assertEquals(10, obj.number);
+        assertEquals("unquoted text with  spaces", obj.text);
+        assertEquals(Long.MAX_VALUE, obj.bigNumber);
+        assertEquals(1.5e-3, obj.fraction, 0.0);
+        assertFalse(obj.flag);
+        assertEquals("triple \"quoted\" \\n\"", obj.special.get("a.b"));
+        assertEquals("http://localhost", obj.special.get("url"));
+        assertEquals(2.5, obj.numberMap.get(2), 0.0);
+        assertArrayEquals(new int[][]{{1, 2}, {}}, obj.matrix);
+        assertEquals("c", obj.objList.get(1).child.str);
+
+        Map<String, Object> root = jhocon.fromHocon(new StringReader("{ a = 1, b = [x, y] }"), null,
+            new TypeToken<Map<String, Object>>() {
+            }.getType());
+        assertEquals(Arrays.asList("x", "y"), root.get("b"));
+    }
+
+    static class Merged {
+        Sub sub = new Sub();
+        int v;
+
+        static class Sub {
+            int a;
+            int b;
+        }
+    }
+
+    @Test
+    public void testMergedKeys() {
+        JHocon jhocon = new JHoconBuilder().create();
+        String[] documents = {
+            "root.sub.a = 1\nroot.sub.b = 2\nroot.v = 3",
+            "root { v = 3 }\nroot { v = 4 }",
+            "root { sub.a = 1, sub.b = 2 }",
+            "root { sub { a = 1 }, sub { b = 2 } }",
+        };
+        for (String hocon : documents) {
+            Merged tree = jhocon.fromHocon(hocon, "root", Merged.class);
+            assertTrue(tree.v > 0 || tree.sub.b == 2);
+            try {
+                jhocon.fromHocon(new StringReader(hocon), "root", Merged.class);
+                fail("Expected exception for: " + hocon);
+            } catch (JsonSyntaxException e) {
+                assertTrue(e.getMessage().contains("Duplicated keys"));
+            }
+        }
+
+        // path expressions, which don't repeat prefix, are read as nested objects
+        Merged obj = jhocon.fromHocon(new StringReader("root.sub.a = 1\nroot2 = 5"), "root", Merged.class);
+        assertEquals(1, obj.sub.a);
+    }
+
+    @Test
+    public void testReaderFailure() {
+        Reader failing = new Reader() {
+            @Override
+            public int read(char[] buf, int off, int len) throws IOException {
+                throw new IOException("disk failure");
+            }
+
+            @Override
+            public void close() {}
+        };
+        try {
+            new JHoconBuilder().create().fromHocon(failing, "root", Merged.class);
+            fail();
+        } catch (JsonIOException e) {
+            assertEquals("disk failure", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testConcatenation() {
+        JHocon jhocon = new JHoconBuilder().create();
+        for (String hocon : new String[]{"root = {a=1} {b=2}", "root = [[1] [2]]"}) {
+            try {
+                jhocon.fromHocon(new StringReader(hocon), "root", Object.class);
+                fail("Expected exception for: " + hocon);
+            } catch (JsonSyntaxException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("Concatenation of objects and arrays"));
+            }
+        }
+        // one trailing comma is allowed, as by tree reader
+        assertArrayEquals(new int[]{1, 2},
+            jhocon.fromHocon(new StringReader("root = [1, 2,], other { a = 1, }"), "root", int[].class));
+    }
+
+    @Test
+    public void testUnsupported() {
+        JHocon jhocon = new JHoconBuilder().create();
+        String[] documents = {
+            "a = 1\nroot = ${a}",
+            "include \"other.conf\"\nroot = 1",
+            "root += 2",
+            "root = 1",
+            "other = 1",
+            "root = [1,,2]",
+            "root = [,1]",
+            "root = [1,2] [3]",
+            "{ , root = [1] }",
+            "{ root = [1] } junk",
+            "{ root = [1] } { other = 2 }",
+            "{ root = [1] },",
+        };
+        for (String hocon : documents) {
+            try {
+                jhocon.fromHocon(new StringReader(hocon), "root", int[].class);
+                fail("Expected exception for: " + hocon);
+            } catch (JsonSyntaxException e) {
+                // expected
+            }
+        }
+    }
+}
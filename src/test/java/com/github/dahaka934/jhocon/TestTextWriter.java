@@ -0,0 +1,142 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.annotations.Comment;
+import com.github.dahaka934.jhocon.annotations.ValidatorRange;
+import com.google.gson.reflect.TypeToken;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.util.*;
+
+public class TestTextWriter extends Assert {
+    static class SimpleClass {
+        @Comment
+        @ValidatorRange(min = 0, max = 100)
+        int number = 5;
+        @Comment("some\nmultiline comment")
+        String text = "text";
+        long bigNumber = Long.MAX_VALUE;
+        double fraction = 0.25;
+        Boolean flag = true;
+        String nullString = null;
+        int[] emptyArray = new int[0];
+        int[][] matrix = new int[][]{{1, 2}, {3, 4}};
+        Map<String, String> special = new LinkedHashMap<>();
+        Map<String, Integer> emptyMap = new HashMap<>();
+        List<SimpleSubClass> objList = new ArrayList<>();
+
+        {
+            special.put("a.b", "dotted key");
+            special.put("empty", "");
+            special.put("bool", "true");
+            special.put("number", "123");
+            special.put("url", "http://localhost");
+            special.put("escaped", "\"quoted\"\n\ttab\\");
+            special.put("", "empty key");
+            objList.add(new SimpleSubClass());
+            objList.add(new SimpleSubClass());
+        }
+    }
+
+    static class SimpleSubClass {
+        String str = "some text";
+        SimpleSubClass child;
+    }
+
+    private static Config parseTree(JHocon jhocon, String name, Object obj) {
+        return ConfigFactory.parseString(jhocon.toHocon(name, obj));
+    }
+
+    private static Config parseText(JHocon jhocon, String name, Object obj) {
+        StringBuilder builder = new StringBuilder();
+        jhocon.toHocon(name, obj, builder);
+        return ConfigFactory.parseString(builder.toString());
+    }
+
+    @Test
+    public void testSameAsTree() {
+        JHocon jhocon = new JHoconBuilder().withComments().registerDefaultValidators().create();
+        SimpleClass obj = new SimpleClass();
+        obj.objList.get(0).child = new SimpleSubClass();
+
+        assertEquals(parseTree(jhocon, "root", obj), parseText(jhocon, "root", obj));
+
+        Map<String, SimpleClass> map = new HashMap<>();
+        map.put("first", new SimpleClass());
+        map.put("second", new SimpleClass());
+        assertEquals(parseTree(jhocon, "root", map), parseText(jhocon, "root", map));
+
+        assertEquals(parseTree(jhocon, "root", Arrays.asList(1, 2, 3)),
+            parseText(jhocon, "root", Arrays.asList(1, 2, 3)));
+        assertEquals(parseTree(jhocon, "root", "string"), parseText(jhocon, "root", "string"));
+    }
+
+    @Test
+    public void testPathName() {
+        JHocon jhocon = new JHoconBuilder().withComments().create();
+        SimpleClass obj = new SimpleClass();
+        for (String name : new String[]{"a.b", "a.\"b.c\".d"}) {
+            assertEquals(parseTree(jhocon, name, obj), parseText(jhocon, name, obj));
+
+            StringBuilder builder = new StringBuilder();
+            jhocon.toHocon(name, obj, builder);
+            assertEquals(obj.bigNumber, jhocon.fromHocon(builder.toString(), name, SimpleClass.class).bigNumber);
+        }
+    }
+
+    @Test
+    public void testRoundTrip() {
+        JHocon jhocon = new JHoconBuilder().withComments().create();
+        SimpleClass obj = new SimpleClass();
+        obj.text = "other text";
+        obj.nullString = "not null";
+
+        StringBuilder builder = new StringBuilder();
+        jhocon.toHocon("root", obj, builder);
+        String hocon = builder.toString();
+
+        System.out.println("Object to Hocon text:");
+        System.out.println(hocon);
+        System.out.println();
+
+        assertTrue(hocon.contains("# default value: 5\n"));
+        assertTrue(hocon.contains("# some\n    # multiline comment\n"));
+        assertTrue(hocon.contains("emptyArray=[]\n"));
+
+        SimpleClass newObj = jhocon.fromHocon(hocon, "root", SimpleClass.class);
+        assertEquals(obj.text, newObj.text);
+        assertEquals(obj.bigNumber, newObj.bigNumber);
+        assertEquals(obj.special, newObj.special);
+        assertArrayEquals(obj.matrix, newObj.matrix);
+        assertEquals(obj.objList.size(), newObj.objList.size());
+
+        Type type = new TypeToken<List<Map<String, String>>>() {
+        }.getType();
+        List<Map<String, String>> list = Collections.singletonList(obj.special);
+        builder.setLength(0);
+        jhocon.toHocon("list", list, type, builder);
+        assertEquals(list, jhocon.fromHocon(builder.toString(), "list", type));
+    }
+
+    static class TemplateClass {
+        @Comment("$value and $value")
+        @ValidatorRange(min = 0, max = 10)
+        int number = 3;
+        @Comment("$value")
+        int[] array = new int[]{1, 2};
+    }
+
+    @Test
+    public void testCommentTemplates() {
+        JHocon jhocon = new JHoconBuilder().withComments().registerDefaultValidators().create();
+        TemplateClass obj = new TemplateClass();
+        for (Config config : Arrays.asList(parseTree(jhocon, "root", obj), parseText(jhocon, "root", obj))) {
+            assertEquals(Arrays.asList(" 3 and 3", " valid range: [0, 10]"),
+                config.getValue("root.number").origin().comments());
+            assertEquals(Collections.singletonList(" [1, 2]"), config.getValue("root.array").origin().comments());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.annotations.ValidatorCustom;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerValidator;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidator;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorCustomAnnotation;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public class TestValidationCustom extends Assert {
+    private static final int THREADS = 64;
+
+    public static class PositiveValidator implements FieldValidator {
+        static final AtomicInteger instances = new AtomicInteger();
+
+        public PositiveValidator() {
+            instances.incrementAndGet();
+            LockSupport.parkNanos(5_000_000); // slow initialization widens window for duplicate instances
+        }
+
+        @Override
+        public boolean isValid(Field field, Object value) {
+            return ((Number) value).intValue() > 0;
+        }
+
+        @Override
+        public String getComment(Field field, Object value) {
+            return "positive";
+        }
+    }
+
+    public static class NonEmptyValidator implements FieldValidator {
+        static final AtomicInteger instances = new AtomicInteger();
+
+        public NonEmptyValidator() {
+            instances.incrementAndGet();
+        }
+
+        @Override
+        public boolean isValid(Field field, Object value) {
+            return !value.toString().isEmpty();
+        }
+
+        @Override
+        public String getComment(Field field, Object value) {
+            return "non-empty";
+        }
+    }
+
+    static class SimpleClass {
+        @ValidatorCustom(PositiveValidator.class)
+        public int a = 1;
+        @ValidatorCustom(PositiveValidator.class)
+        public int b = 2;
+        @ValidatorCustom(NonEmptyValidator.class)
+        public String c = "c";
+        @ValidatorCustom(NonEmptyValidator.class)
+        public String d = "d";
+        public int e = -1;
+    }
+
+    @Test
+    public void testValidation() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().withComments().create();
+        String hocon = jhocon.toHocon("root", new SimpleClass());
+        assertTrue(hocon.contains("# positive"));
+        assertTrue(hocon.contains("# non-empty"));
+        jhocon.fromHocon(hocon, "root", SimpleClass.class);
+
+        boolean error = false;
+        try {
+            jhocon.fromHocon("root { a = 0 }", "root", SimpleClass.class);
+        } catch (FieldHandlerValidator.Exception e) {
+            error = true;
+        }
+        assertTrue(error);
+    }
+
+    @Test
+    public void testConcurrentBinders() throws Exception {
+        Field[] fields = SimpleClass.class.getDeclaredFields();
+        for (int round = 0; round < 20; ++round) {
+            PositiveValidator.instances.set(0);
+            NonEmptyValidator.instances.set(0);
+            FieldValidatorCustomAnnotation validator = new FieldValidatorCustomAnnotation();
+
+            Concurrency.runConcurrently(THREADS, thread -> {
+                for (int i = 0; i < 100; ++i) {
+                    for (Field field : fields) {
+                        FieldValidator bound = validator.bind(field);
+                        if (field.getAnnotation(ValidatorCustom.class) == null) {
+                            assertNull(bound);
+                            assertTrue(validator.isValid(field, -1));
+                        } else if (field.getType() == int.class) {
+                            assertTrue(bound instanceof PositiveValidator);
+                            assertFalse(validator.isValid(field, 0));
+                            assertEquals("positive", validator.getComment(field, 1));
+                        } else {
+                            assertTrue(bound instanceof NonEmptyValidator);
+                            assertFalse(validator.isValid(field, ""));
+                        }
+                    }
+                }
+            });
+
+            assertEquals(1, PositiveValidator.instances.get());
+            assertEquals(1, NonEmptyValidator.instances.get());
+        }
+    }
+
+    @Test
+    public void testConcurrentConversion() throws Exception {
+        for (int round = 0; round < 20; ++round) {
+            // adapters are created and bound concurrently by the first conversions
+            JHocon jhocon = new JHoconBuilder().registerDefaultValidators().create();
+            AtomicInteger errors = new AtomicInteger();
+
+            Concurrency.runConcurrently(THREADS, thread -> {
+                SimpleClass obj = jhocon.fromHocon("root { a = 5, c = x }", "root", SimpleClass.class);
+                assertEquals(5, obj.a);
+                assertEquals("x", obj.c);
+                try {
+                    jhocon.fromHocon("root { c = \"\" }", "root", SimpleClass.class);
+                } catch (FieldHandlerValidator.Exception e) {
+                    errors.incrementAndGet();
+                }
+            });
+
+            assertEquals(THREADS, errors.get());
+        }
+    }
+}
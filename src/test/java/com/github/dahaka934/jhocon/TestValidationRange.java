@@ -1,11 +1,22 @@
 package com.github.dahaka934.jhocon;
 
+import com.github.dahaka934.jhocon.annotations.Comment;
 import com.github.dahaka934.jhocon.annotations.ValidatorDoubleRange;
 import com.github.dahaka934.jhocon.annotations.ValidatorRange;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerComment;
 import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerValidator;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorRange;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class TestValidationRange extends Assert {
     static class SimpleClass {
         @ValidatorRange(min = 0, max = 50)
@@ -43,4 +54,133 @@ public class TestValidationRange extends Assert {
 
         assertTrue(error);
     }
+
+    @Test
+    public void testInvalidStream() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().create();
+        String hocon = jhocon.toHocon("root", new SimpleClass(100));
+        boolean error = false;
+
+        try {
+            jhocon.fromHocon(new StringReader(hocon), "root", SimpleClass.class);
+        } catch (FieldHandlerValidator.Exception e) {
+            error = true;
+        }
+
+        assertTrue(error);
+    }
+
+    /**
+     * Accepts only even values in range.
+     */
+    static class EvenRangeValidator extends FieldValidatorRange {
+        @Override
+        public boolean isValid(Field field, Object value) {
+            return super.isValid(field, value) && ((Number) value).intValue() % 2 == 0;
+        }
+
+        @Override
+        public String getComment(Field field, Object value) {
+            return "even";
+        }
+    }
+
+    static class UpperCaseComment extends FieldHandlerComment {
+        @Override
+        public Object onWrite(JsonWriter writer, Field field, Object value) {
+            Comment ann = field.getAnnotation(Comment.class);
+            if (ann != null) {
+                JHoconHelper.comment(writer, ann.value().toUpperCase());
+            }
+            return value;
+        }
+    }
+
+    static class CommentedClass {
+        @Comment("value of class")
+        @ValidatorRange(min = 0, max = 50)
+        public int value = 4;
+    }
+
+    @Test
+    public void testSubclassOverrides() {
+        JHocon jhocon = new JHoconBuilder()
+            .registerFieldValidator(new EvenRangeValidator())
+            .registerFieldHandler(new UpperCaseComment())
+            .withComments()
+            .create();
+        String hocon = jhocon.toHocon("root", new CommentedClass());
+        assertTrue(hocon.contains("# even"));
+        assertTrue(hocon.contains("# VALUE OF CLASS"));
+
+        assertEquals(4, jhocon.fromHocon(hocon, "root", CommentedClass.class).value);
+        try {
+            jhocon.fromHocon("root { value = 5 }", "root", CommentedClass.class);
+            fail();
+        } catch (FieldHandlerValidator.Exception e) {
+            // odd value is rejected by overridden method
+        }
+    }
+
+    @Test
+    public void testValidatorHandlerSubclass() {
+        AtomicInteger reads = new AtomicInteger();
+        FieldHandlerValidator handler = new FieldHandlerValidator() {
+            @Override
+            public Object onRead(JsonReader reader, Field field, Object value) {
+                reads.incrementAndGet();
+                return super.onRead(reader, field, value);
+            }
+        };
+        handler.register(new FieldValidatorRange());
+        JHocon jhocon = new JHoconBuilder().registerFieldHandler(handler).create();
+
+        jhocon.fromHocon("root { value = 5, valueFloat = 1 }", "root", SimpleClass.class);
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedThrowErrorOnFail() {
+        FieldHandlerValidator handler = new FieldHandlerValidator();
+        handler.register(new FieldValidatorRange());
+        handler.throwErrorOnFail = false;
+        JHocon jhocon = new JHoconBuilder().registerFieldHandler(handler).create();
+        assertFalse(handler.isThrowErrorOnFail());
+
+        // assignment after create is ignored
+        handler.throwErrorOnFail = true;
+        assertEquals(0, jhocon.fromHocon("root { value = 100, valueFloat = 1 }", "root", SimpleClass.class).value);
+        try {
+            handler.setThrowErrorOnFail(true);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void testFactorySubclass() {
+        AtomicInteger writes = new AtomicInteger();
+        AtomicInteger reads = new AtomicInteger();
+        JHReflectTypeAdapterFactory factory = new JHReflectTypeAdapterFactory() {
+            @Override
+            public void writeField(JsonWriter writer, TypeAdapter adapter, Field field, Object value)
+                throws IOException {
+                writes.incrementAndGet();
+                super.writeField(writer, adapter, field, value);
+            }
+
+            @Override
+            public Object readField(JsonReader reader, TypeAdapter adapter, Field field) throws IOException {
+                reads.incrementAndGet();
+                return super.readField(reader, adapter, field);
+            }
+        };
+        JHocon jhocon = new JHoconBuilder().registerReflectTypeAdapterFactory(factory).create();
+
+        String hocon = jhocon.toHocon("root", new SimpleClass(5));
+        assertEquals(5, jhocon.fromHocon(hocon, "root", SimpleClass.class).value);
+        assertEquals(2, writes.get());
+        assertEquals(2, reads.get());
+    }
 }
@@ -0,0 +1,161 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.annotations.GenerateAdapter;
+import com.github.dahaka934.jhocon.annotations.ValidatorCustom;
+import com.github.dahaka934.jhocon.annotations.ValidatorRange;
+import com.github.dahaka934.jhocon.annotations.ValidatorStringList;
+import com.github.dahaka934.jhocon.fieldlhandler.FieldHandlerValidator;
+import com.github.dahaka934.jhocon.fieldlhandler.ValidationFailure;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidator;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorCustomAnnotation;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorList;
+import com.github.dahaka934.jhocon.fieldlhandler.validator.FieldValidatorRange;
+import com.google.gson.stream.JsonReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class TestValidationReport extends Assert {
+    public static class NonEmptyValidator implements FieldValidator {
+        @Override
+        public boolean isValid(Field field, Object value) {
+            return !value.toString().isEmpty();
+        }
+
+        @Override
+        public String getComment(Field field, Object value) {
+            return null;
+        }
+    }
+
+    static class Pool {
+        @ValidatorRange(min = 1, max = 64)
+        public int size = 8;
+    }
+
+    static class Db {
+        @ValidatorStringList({"mysql", "postgres"})
+        public String driver = "mysql";
+        @ValidatorCustom(NonEmptyValidator.class)
+        public String user = "root";
+        public Pool pool = new Pool();
+        public List<Pool> replicas = new ArrayList<>();
+    }
+
+    @GenerateAdapter
+    static class Generated {
+        @ValidatorRange(min = 1, max = 64)
+        public int size = 8;
+        @ValidatorStringList({"mysql", "postgres"})
+        public String driver = "mysql";
+    }
+
+    public static class PrefixedValidator extends FieldHandlerValidator {
+        @Override
+        protected String errorMessage(JsonReader reader, Object value) {
+            return "config: " + super.errorMessage(reader, value);
+        }
+    }
+
+    private static final String INVALID = "db { driver = oracle, user = \"\", pool.size = 100, "
+        + "replicas = [{ size = 0 }, { size = 2 }, { size = 65 }] }";
+
+    /**
+     * Failures are collected in order of keys in config object, so they are looked up by path.
+     */
+    private static void assertFailure(List<ValidationFailure> failures, String path, Object value,
+                                      Class<? extends FieldValidator> validator) {
+        ValidationFailure failure = failures.stream()
+            .filter(it -> it.path.equals(path)).findFirst().orElseThrow(AssertionError::new);
+        assertEquals(value, failure.value);
+        assertEquals(validator, failure.validator.getClass());
+        assertTrue(failure.getMessage().contains(path));
+    }
+
+    @Test
+    public void testAllFailures() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().create();
+        JHoconValidated<Db> result = jhocon.fromHoconValidated(INVALID, "db", Db.class);
+
+        assertFalse(result.isValid());
+        List<ValidationFailure> failures = result.failures;
+        assertEquals(5, failures.size());
+        assertFailure(failures, ".driver", "oracle", FieldValidatorList.class);
+        assertFailure(failures, ".user", "", FieldValidatorCustomAnnotation.class);
+        assertFailure(failures, ".pool.size", 100, FieldValidatorRange.class);
+        assertFailure(failures, ".replicas[0].size", 0, FieldValidatorRange.class);
+        assertFailure(failures, ".replicas[2].size", 65, FieldValidatorRange.class);
+        assertEquals(5, result.toString().split("\n").length);
+
+        // valid values are bound, invalid ones are skipped
+        assertNull(result.value.driver);
+        assertEquals(3, result.value.replicas.size());
+        assertEquals(2, result.value.replicas.get(1).size);
+    }
+
+    @Test
+    public void testValid() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().create();
+        String hocon = jhocon.toHocon("db", new Db());
+        JHoconValidated<Db> result = jhocon.fromHoconValidated(hocon, "db", Db.class);
+        assertTrue(result.isValid());
+        assertEquals("mysql", result.value.driver);
+    }
+
+    @Test
+    public void testThrowingModeIsKept() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().create();
+        jhocon.fromHoconValidated(INVALID, "db", Db.class);
+        try {
+            jhocon.fromHocon(INVALID, "db", Db.class);
+            fail();
+        } catch (FieldHandlerValidator.Exception e) {
+            assertTrue(e.getMessage().contains("incorrect value"));
+        }
+    }
+
+    @Test
+    public void testGeneratedAdapter() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().withGeneratedAdapters().create();
+        JHoconValidated<Generated> result = jhocon.fromHoconValidated(
+            "root { size = 0, driver = oracle }", "root", Generated.class);
+
+        assertEquals(2, result.failures.size());
+        assertFailure(result.failures, ".size", 0, FieldValidatorRange.class);
+        assertFailure(result.failures, ".driver", "oracle", FieldValidatorList.class);
+    }
+
+    @Test
+    public void testParallelReading() {
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators()
+            .withParallelReading(100, new ForkJoinPool(4)).create();
+        StringBuilder hocon = new StringBuilder("db { replicas = [");
+        for (int i = 0; i < 200; ++i) {
+            hocon.append("{ size = ").append(i % 50 == 0 ? 0 : 1).append(" },");
+        }
+        hocon.append("] }");
+        JHoconValidated<Db> result = jhocon.fromHoconValidated(hocon.toString(), "db", Db.class);
+
+        assertEquals(200, result.value.replicas.size());
+        assertEquals(4, result.failures.size());
+        for (int i = 0; i < 4; ++i) {
+            // failures of parallel ranges are kept in order of elements
+            assertEquals(".replicas[" + i * 50 + "].size", result.failures.get(i).path);
+        }
+    }
+
+    @Test
+    public void testOverriddenMessage() {
+        FieldHandlerValidator validator = new PrefixedValidator();
+        validator.register(new FieldValidatorRange());
+        JHocon jhocon = new JHoconBuilder().registerFieldHandler(validator).create();
+        JHoconValidated<Pool> result = jhocon.fromHoconValidated("pool { size = 100 }", "pool", Pool.class);
+
+        assertEquals(1, result.failures.size());
+        assertEquals("config: Field '.size' has incorrect value (100)", result.failures.get(0).getMessage());
+    }
+}
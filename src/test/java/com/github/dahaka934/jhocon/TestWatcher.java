@@ -0,0 +1,68 @@
+package com.github.dahaka934.jhocon;
+
+import com.github.dahaka934.jhocon.annotations.ValidatorRange;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+public class TestWatcher extends Assert {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    static class Settings {
+        @ValidatorRange(min = 0, max = 100)
+        int value;
+        String name;
+    }
+
+    private static void write(Path file, String text) throws IOException {
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 20000;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timeout", System.currentTimeMillis() < deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void testReload() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        Path file = directory.resolve("main.conf");
+        Path included = directory.resolve("name.conf");
+        write(included, "settings.name = first");
+        write(file, "include \"name.conf\"\nsettings.value = 1");
+
+        JHocon jhocon = new JHoconBuilder().registerDefaultValidators().create();
+        List<Exception> errors = new CopyOnWriteArrayList<>();
+        try (JHoconWatcher<Settings> watcher = new JHoconWatcher<Settings>(jhocon, file, "settings", Settings.class)
+            .debounce(50).onError(errors::add).start()) {
+            Settings initial = watcher.get();
+            assertEquals(1, initial.value);
+            assertEquals("first", initial.name);
+
+            write(file, "include \"name.conf\"\nsettings.value = 2");
+            await(() -> watcher.get().value == 2);
+            assertEquals(1, initial.value);
+
+            write(included, "settings.name = second");
+            await(() -> "second".equals(watcher.get().name));
+
+            // invalid value is not published
+            write(file, "include \"name.conf\"\nsettings.value = 200");
+            await(() -> !errors.isEmpty());
+            assertEquals(2, watcher.get().value);
+        }
+    }
+}